@@ -0,0 +1,79 @@
+package kakao.benchmark;
+
+import kakao.controller.response.ReservationPageResponse;
+import kakao.model.DateRange;
+import kakao.repository.JdbcTemplateReservationArchiveRepository;
+import kakao.repository.JdbcTemplateReservationRepository;
+import kakao.repository.JdbcTemplateThemeRepository;
+import kakao.service.ReservationArchiver;
+import kakao.service.ReservationBatchWriter;
+import kakao.service.ReservationService;
+import kakao.service.ReservationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Live-table reads over the most recent month of a long history, with the rest of the history left in place or archived.
+// The full-size run is -p reservationCount=50000000; seeding dominates its set-up time.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArchiveBenchmark {
+    private static final int THEME_COUNT = 20;
+    private static final int RECENT_DAYS = 30;
+
+    @Param({"1000000"})
+    private int reservationCount;
+
+    @Param({"false", "true"})
+    private boolean archived;
+
+    private BenchmarkDatabase database;
+    private ReservationService reservationService;
+    private DateRange recentDays;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase("archive_benchmark");
+        database.seedThemes(THEME_COUNT);
+        database.seedReservations(reservationCount, THEME_COUNT);
+
+        // Mirrors BenchmarkDatabase.seedReservations: every theme gets one reservation per hour.
+        LocalDate lastDate = BenchmarkDatabase.FIRST_DATE.plusDays((reservationCount - 1) / THEME_COUNT / 24);
+        recentDays = new DateRange(lastDate.minusDays(RECENT_DAYS - 1), lastDate);
+
+        JdbcTemplateReservationRepository reservationRepository = new JdbcTemplateReservationRepository(database.getJdbcTemplate());
+        JdbcTemplateThemeRepository themeRepository = new JdbcTemplateThemeRepository(database.getJdbcTemplate());
+        JdbcTemplateReservationArchiveRepository archiveRepository = new JdbcTemplateReservationArchiveRepository(database.getJdbcTemplate());
+        // Pinned to the last seeded day, so the archive cutoff is the first of the recent days and the pages are still served.
+        Clock clock = Clock.fixed(lastDate.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        ReservationArchiver archiver = new ReservationArchiver(archiveRepository, RECENT_DAYS - 1, 10_000, clock);
+        if (archived) {
+            archiver.archive();
+        }
+        reservationService = new ReservationServiceImpl(reservationRepository, new ReservationBatchWriter(reservationRepository, themeRepository),
+                Optional.empty(), Optional.of(archiveRepository), Optional.of(archiver));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.drop();
+    }
+
+    @Benchmark
+    public ReservationPageResponse recentPage() {
+        long themeId = ThreadLocalRandom.current().nextLong(1, THEME_COUNT + 1);
+        return reservationService.findByTheme(themeId, recentDays, null, 100);
+    }
+
+    @Benchmark
+    public boolean recentLookUp() {
+        long id = ThreadLocalRandom.current().nextLong(reservationCount - (long) RECENT_DAYS * 24 * THEME_COUNT, reservationCount) + 1;
+        return reservationService.exists(id);
+    }
+}
@@ -0,0 +1,61 @@
+package kakao.benchmark;
+
+import kakao.config.ScheduleProperties;
+import kakao.controller.response.AvailabilityResponse;
+import kakao.model.DateRange;
+import kakao.repository.JdbcTemplateReservationRepository;
+import kakao.service.AvailabilityService;
+import kakao.service.AvailabilityServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Availability for a 30-day window, for one random theme and for all 20 themes as a theme-picker page would load them.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailabilityBenchmark {
+    private static final int THEME_COUNT = 20;
+    private static final int DAYS = 30;
+
+    @Param({"10000", "100000"})
+    private int reservationCount;
+
+    private BenchmarkDatabase database;
+    private AvailabilityService availabilityService;
+    private DateRange dateRange;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase("availability_benchmark");
+        database.seedThemes(THEME_COUNT);
+        database.seedReservations(reservationCount, THEME_COUNT);
+
+        availabilityService = new AvailabilityServiceImpl(new JdbcTemplateReservationRepository(database.getJdbcTemplate()), new ScheduleProperties(),
+                Optional.empty());
+        dateRange = new DateRange(BenchmarkDatabase.FIRST_DATE, BenchmarkDatabase.FIRST_DATE.plusDays(DAYS - 1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.drop();
+    }
+
+    @Benchmark
+    public List<AvailabilityResponse> oneTheme() {
+        long themeId = ThreadLocalRandom.current().nextLong(1, THEME_COUNT + 1);
+        return availabilityService.findAvailability(themeId, dateRange);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(THEME_COUNT)
+    public void allThemes(Blackhole blackhole) {
+        for (long themeId = 1; themeId <= THEME_COUNT; themeId++) {
+            blackhole.consume(availabilityService.findAvailability(themeId, dateRange));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package kakao.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BenchmarkDatabase {
+    public static final LocalDate FIRST_DATE = LocalDate.of(2023, 1, 1);
+    private static final int SEED_BATCH_SIZE = 1_000;
+    // Matches spring.datasource.hikari in application.yml so connection reuse and pool waits look like production.
+    private static final int POOL_SIZE = 10;
+    private static final long CONNECTION_TIMEOUT_MILLIS = 3_000;
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public BenchmarkDatabase(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=64");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        config.setConnectionTimeout(CONNECTION_TIMEOUT_MILLIS);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public void seedThemes(int themeCount) {
+        List<Object[]> rows = new ArrayList<>(themeCount);
+        for (int i = 1; i <= themeCount; i++) {
+            rows.add(new Object[]{"theme-" + i, "benchmark theme " + i, 29_000});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO theme (name, desc, price) VALUES (?, ?, ?)", rows);
+    }
+
+    // Spreads reservations over the seeded themes on hourly slots so every (theme, date, time) stays unique.
+    public void seedReservations(int reservationCount, int themeCount) {
+        List<Object[]> rows = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < reservationCount; i++) {
+            int slot = i / themeCount;
+            LocalDate date = FIRST_DATE.plusDays(slot / 24);
+            LocalTime time = LocalTime.of(slot % 24, 0);
+            rows.add(new Object[]{Date.valueOf(date), Time.valueOf(time), "guest-" + i, (long) (i % themeCount) + 1});
+
+            if (rows.size() == SEED_BATCH_SIZE) {
+                insertReservations(rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            insertReservations(rows);
+        }
+    }
+
+    public void drop() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.close();
+    }
+
+    private void insertReservations(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO reservation (date, time, name, theme_id) VALUES (?, ?, ?, ?)", rows);
+    }
+}
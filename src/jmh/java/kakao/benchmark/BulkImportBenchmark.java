@@ -0,0 +1,103 @@
+package kakao.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kakao.controller.BulkReservationReader;
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.response.BulkReservationResponse;
+import kakao.repository.JdbcTemplateReservationRepository;
+import kakao.repository.JdbcTemplateThemeRepository;
+import kakao.service.ReservationBatchWriter;
+import kakao.service.ReservationService;
+import kakao.service.ReservationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Imports ROW_COUNT rows into an empty database per iteration, through POST /reservations/bulk's reader and
+// batch writer or through one book() per row. The score is time per row, so rows/sec = 1,000,000 / score.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OperationsPerInvocation(BulkImportBenchmark.ROW_COUNT)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class BulkImportBenchmark {
+    static final int ROW_COUNT = 100_000;
+    private static final int THEME_COUNT = 20;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private byte[] ndjson;
+
+    private BenchmarkDatabase database;
+    private ReservationService reservationService;
+
+    @Setup(Level.Trial)
+    public void buildBody() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            body.append("{\"date\":\"").append(dateOf(i))
+                    .append("\",\"time\":\"").append(timeOf(i))
+                    .append("\",\"name\":\"bulk\",\"themeId\":").append(themeIdOf(i))
+                    .append("}\n");
+        }
+        ndjson = body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        database = new BenchmarkDatabase("bulk_import_benchmark");
+        database.seedThemes(THEME_COUNT);
+
+        JdbcTemplateReservationRepository reservationRepository = new JdbcTemplateReservationRepository(database.getJdbcTemplate());
+        JdbcTemplateThemeRepository themeRepository = new JdbcTemplateThemeRepository(database.getJdbcTemplate());
+        reservationService = new ReservationServiceImpl(reservationRepository, new ReservationBatchWriter(reservationRepository, themeRepository),
+                Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        database.drop();
+    }
+
+    @Benchmark
+    public List<BulkReservationResponse> bulk() throws IOException {
+        try (BulkReservationReader reservationRequests = new BulkReservationReader(objectMapper, new ByteArrayInputStream(ndjson), true)) {
+            return reservationService.bookAll(reservationRequests);
+        }
+    }
+
+    @Benchmark
+    public long singleInserts() {
+        long lastId = 0;
+        for (int i = 0; i < ROW_COUNT; i++) {
+            ReservationRequest reservationRequest = new ReservationRequest();
+            reservationRequest.setDate(dateOf(i));
+            reservationRequest.setTime(timeOf(i));
+            reservationRequest.setName("bulk");
+            reservationRequest.setThemeId(themeIdOf(i));
+            lastId = reservationService.book(reservationRequest);
+        }
+        return lastId;
+    }
+
+    private static LocalDate dateOf(int row) {
+        return BenchmarkDatabase.FIRST_DATE.plusDays(row / THEME_COUNT / MINUTES_PER_DAY);
+    }
+
+    private static LocalTime timeOf(int row) {
+        return LocalTime.ofSecondOfDay(row / THEME_COUNT % MINUTES_PER_DAY * 60L);
+    }
+
+    private static long themeIdOf(int row) {
+        return row % THEME_COUNT + 1;
+    }
+}
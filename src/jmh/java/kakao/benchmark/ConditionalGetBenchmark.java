@@ -0,0 +1,79 @@
+package kakao.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kakao.repository.JdbcTemplateReservationRepository;
+import kakao.repository.JdbcTemplateThemeRepository;
+import kakao.service.ReservationBatchWriter;
+import kakao.service.ReservationService;
+import kakao.service.ReservationServiceImpl;
+import kakao.service.ThemeService;
+import kakao.service.ThemeServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// The work behind a 304 (revalidating the ETag) against the work behind a full 200 (loading and serializing the body).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConditionalGetBenchmark {
+    private static final int THEME_COUNT = 1_000;
+    private static final int RESERVATION_COUNT = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private BenchmarkDatabase database;
+    private ThemeService themeService;
+    private ReservationService reservationService;
+    private String themesETag;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase("conditional_get_benchmark");
+        database.seedThemes(THEME_COUNT);
+        database.seedReservations(RESERVATION_COUNT, THEME_COUNT);
+
+        JdbcTemplateReservationRepository reservationRepository = new JdbcTemplateReservationRepository(database.getJdbcTemplate());
+        JdbcTemplateThemeRepository themeRepository = new JdbcTemplateThemeRepository(database.getJdbcTemplate());
+        themeService = new ThemeServiceImpl(reservationRepository, themeRepository);
+        reservationService = new ReservationServiceImpl(reservationRepository, new ReservationBatchWriter(reservationRepository, themeRepository),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        themesETag = "themes-" + themeService.catalogueVersion();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.drop();
+    }
+
+    @Benchmark
+    public boolean themesNotModified() {
+        return themesETag.equals("themes-" + themeService.catalogueVersion());
+    }
+
+    @Benchmark
+    public byte[] themesFull() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(themeService.findAll());
+    }
+
+    @Benchmark
+    public boolean reservationNotModified() {
+        return reservationService.exists(randomReservationId());
+    }
+
+    @Benchmark
+    public byte[] reservationFull() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(reservationService.lookUp(randomReservationId()));
+    }
+
+    private long randomReservationId() {
+        return ThreadLocalRandom.current().nextLong(1, RESERVATION_COUNT + 1);
+    }
+}
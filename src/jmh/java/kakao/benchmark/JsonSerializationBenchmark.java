@@ -0,0 +1,62 @@
+package kakao.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kakao.controller.response.ReservationResponse;
+import kakao.controller.response.ThemeResponse;
+import kakao.exception.ErrorCode;
+import kakao.exception.ErrorResponse;
+import kakao.model.Reservation;
+import kakao.model.Theme;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonSerializationBenchmark {
+    @Param({"100", "1000"})
+    private int themeCount;
+
+    // Configured the way Spring Boot configures its ObjectMapper for the dates and times in these responses.
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ReservationResponse reservationResponse;
+    private List<ThemeResponse> themeResponses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Theme theme = new Theme(1L, "워너고홈", "병맛 어드벤처 회사 코믹물", 29_000);
+        reservationResponse = new ReservationResponse(
+                new Reservation(1L, LocalDate.of(2023, 1, 1), LocalTime.of(13, 0), "류성현", 1L), theme);
+        themeResponses = LongStream.rangeClosed(1, themeCount)
+                .mapToObj(id -> new ThemeResponse(new Theme(id, "theme-" + id, "benchmark theme " + id, 29_000)))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeReservationResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(reservationResponse);
+    }
+
+    // What CustomExceptionHandler used to pay per error before the bodies were pre-serialized.
+    @Benchmark
+    public byte[] serializeErrorResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ErrorResponse.toResponseEntity(ErrorCode.DUPLICATE_RESERVATION).getBody());
+    }
+
+    @Benchmark
+    public byte[] serializeThemeResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(themeResponses);
+    }
+}
@@ -0,0 +1,57 @@
+package kakao.benchmark;
+
+import kakao.config.RateLimitProperties;
+import kakao.controller.RateLimiter;
+import kakao.exception.TooManyRequestsException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Limiter overhead under contention: every thread hammering one hot bucket against threads spread over many clients.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class RateLimiterBenchmark {
+    private static final int CLIENT_COUNT = 10_000;
+
+    @Param({"true", "false"})
+    private boolean enabled;
+
+    private RateLimiter rateLimiter;
+    private String[] clientIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(enabled);
+        rateLimiter = new RateLimiter(properties);
+
+        clientIds = new String[CLIENT_COUNT];
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            clientIds[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public boolean hotClient() {
+        return admit(clientIds[0], 1L);
+    }
+
+    @Benchmark
+    public boolean spreadClients() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return admit(clientIds[random.nextInt(CLIENT_COUNT)], (long) random.nextInt(20) + 1);
+    }
+
+    private boolean admit(String clientId, Long themeId) {
+        try {
+            rateLimiter.acquireBooking(clientId);
+            rateLimiter.acquireThemeBooking(themeId);
+            return true;
+        } catch (TooManyRequestsException e) {
+            return false;
+        }
+    }
+}
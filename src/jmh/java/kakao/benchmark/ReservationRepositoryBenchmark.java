@@ -0,0 +1,128 @@
+package kakao.benchmark;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.request.ThemeRequest;
+import kakao.model.DateRange;
+import kakao.model.Reservation;
+import kakao.model.ReservationSlot;
+import kakao.repository.InMemoryReservationRepository;
+import kakao.repository.InMemoryThemeRepository;
+import kakao.repository.JdbcTemplateReservationRepository;
+import kakao.repository.ReservationRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// The same reservation workload from 8 threads against the JDBC and in-memory stores (the latter without journal,
+// so only its data structures are compared). Throughput and the sampled latency percentiles are both reported;
+// run with -prof gc to compare allocation as well.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class ReservationRepositoryBenchmark {
+    private static final int THEME_COUNT = 20;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    @Param({"jdbc", "memory"})
+    private String store;
+
+    @Param({"100000"})
+    private int reservationCount;
+
+    private BenchmarkDatabase database;
+    private ReservationRepository reservationRepository;
+    private final AtomicLong bookingSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (store.equals("jdbc")) {
+            database = new BenchmarkDatabase("repository_benchmark");
+            database.seedThemes(THEME_COUNT);
+            database.seedReservations(reservationCount, THEME_COUNT);
+            reservationRepository = new JdbcTemplateReservationRepository(database.getJdbcTemplate());
+            return;
+        }
+
+        InMemoryThemeRepository themeRepository = new InMemoryThemeRepository(Optional.empty());
+        for (int i = 1; i <= THEME_COUNT; i++) {
+            ThemeRequest themeRequest = new ThemeRequest();
+            themeRequest.setName("theme-" + i);
+            themeRequest.setDesc("benchmark theme " + i);
+            themeRequest.setPrice(29_000);
+            themeRepository.create(themeRequest);
+        }
+        reservationRepository = new InMemoryReservationRepository(themeRepository, Optional.empty());
+        seedInMemory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (database != null) {
+            database.drop();
+        }
+    }
+
+    @Benchmark
+    public Long create() {
+        return reservationRepository.create(nextFreeSlot());
+    }
+
+    @Benchmark
+    public Optional<Reservation> findById() {
+        return reservationRepository.findById(ThreadLocalRandom.current().nextLong(1, reservationCount + 1));
+    }
+
+    // One theme's week, the range the availability endpoint serves.
+    @Benchmark
+    public Optional<List<ReservationSlot>> findSlotsByThemeId() {
+        long themeId = ThreadLocalRandom.current().nextLong(1, THEME_COUNT + 1);
+        return reservationRepository.findSlotsByThemeId(themeId,
+                new DateRange(BenchmarkDatabase.FIRST_DATE, BenchmarkDatabase.FIRST_DATE.plusDays(6)));
+    }
+
+    @Benchmark
+    public void createThenDelete() {
+        reservationRepository.deleteById(reservationRepository.create(nextFreeSlot()));
+    }
+
+    // Same layout as BenchmarkDatabase.seedReservations, so both stores hold identical rows with identical ids.
+    private void seedInMemory() {
+        List<ReservationRequest> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < reservationCount; i++) {
+            int slot = i / THEME_COUNT;
+            ReservationRequest reservationRequest = new ReservationRequest();
+            reservationRequest.setDate(BenchmarkDatabase.FIRST_DATE.plusDays(slot / 24));
+            reservationRequest.setTime(LocalTime.of(slot % 24, 0));
+            reservationRequest.setName("guest-" + i);
+            reservationRequest.setThemeId((long) (i % THEME_COUNT) + 1);
+            batch.add(reservationRequest);
+
+            if (batch.size() == SEED_BATCH_SIZE) {
+                reservationRepository.createAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            reservationRepository.createAll(batch);
+        }
+    }
+
+    // Seeded rows live on whole hours from BenchmarkDatabase.FIRST_DATE; new bookings go a year later on every minute.
+    private ReservationRequest nextFreeSlot() {
+        long sequence = bookingSequence.getAndIncrement();
+        ReservationRequest reservationRequest = new ReservationRequest();
+        reservationRequest.setDate(BenchmarkDatabase.FIRST_DATE.plusYears(1).plusDays(sequence / MINUTES_PER_DAY));
+        reservationRequest.setTime(LocalTime.ofSecondOfDay(sequence % MINUTES_PER_DAY * 60));
+        reservationRequest.setName("bench");
+        reservationRequest.setThemeId(1L);
+        return reservationRequest;
+    }
+}
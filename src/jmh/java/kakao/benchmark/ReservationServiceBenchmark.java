@@ -0,0 +1,101 @@
+package kakao.benchmark;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.response.ReservationResponse;
+import kakao.exception.DuplicatedReservationException;
+import kakao.repository.JdbcTemplateReservationRepository;
+import kakao.repository.JdbcTemplateThemeRepository;
+import kakao.service.ReservationBatchWriter;
+import kakao.service.ReservationService;
+import kakao.service.ReservationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationServiceBenchmark {
+    private static final int THEME_COUNT = 20;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Param({"10000", "100000"})
+    private int reservationCount;
+
+    private BenchmarkDatabase database;
+    private ReservationService reservationService;
+    private final AtomicLong bookingSequence = new AtomicLong();
+    private final AtomicLong mixSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase("reservation_benchmark");
+        database.seedThemes(THEME_COUNT);
+        database.seedReservations(reservationCount, THEME_COUNT);
+
+        JdbcTemplateReservationRepository reservationRepository = new JdbcTemplateReservationRepository(database.getJdbcTemplate());
+        JdbcTemplateThemeRepository themeRepository = new JdbcTemplateThemeRepository(database.getJdbcTemplate());
+        reservationService = new ReservationServiceImpl(reservationRepository, new ReservationBatchWriter(reservationRepository, themeRepository),
+                Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.drop();
+    }
+
+    @Benchmark
+    public Long book() {
+        return reservationService.book(nextFreeSlot());
+    }
+
+    @Benchmark
+    public ReservationResponse lookUp() {
+        long id = ThreadLocalRandom.current().nextLong(1, reservationCount + 1);
+        return reservationService.lookUp(id);
+    }
+
+    // Every other booking targets a seeded slot, the mix seen during a ticket drop; run with -prof gc for allocation.
+    @Benchmark
+    public Long bookHalfDuplicates() {
+        if (mixSequence.getAndIncrement() % 2 == 0) {
+            return book();
+        }
+        try {
+            return reservationService.book(takenSlot());
+        } catch (DuplicatedReservationException e) {
+            return null;
+        }
+    }
+
+    // Cancelling needs a fresh row every time, so the booking is part of the measured work.
+    @Benchmark
+    public void bookThenCancel() {
+        reservationService.cancel(reservationService.book(nextFreeSlot()));
+    }
+
+    // Theme 1 holds the seeded slot at FIRST_DATE 00:00.
+    private ReservationRequest takenSlot() {
+        ReservationRequest reservationRequest = new ReservationRequest();
+        reservationRequest.setDate(BenchmarkDatabase.FIRST_DATE);
+        reservationRequest.setTime(LocalTime.MIDNIGHT);
+        reservationRequest.setName("bench");
+        reservationRequest.setThemeId(1L);
+        return reservationRequest;
+    }
+
+    // Seeded rows live on whole hours from BenchmarkDatabase.FIRST_DATE; new bookings go a year later on every minute.
+    private ReservationRequest nextFreeSlot() {
+        long sequence = bookingSequence.getAndIncrement();
+        ReservationRequest reservationRequest = new ReservationRequest();
+        reservationRequest.setDate(BenchmarkDatabase.FIRST_DATE.plusYears(1).plusDays(sequence / MINUTES_PER_DAY));
+        reservationRequest.setTime(LocalTime.ofSecondOfDay(sequence % MINUTES_PER_DAY * 60));
+        reservationRequest.setName("bench");
+        reservationRequest.setThemeId(1L);
+        return reservationRequest;
+    }
+}
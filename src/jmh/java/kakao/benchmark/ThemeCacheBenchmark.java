@@ -0,0 +1,91 @@
+package kakao.benchmark;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.response.BulkReservationResponse;
+import kakao.repository.CachingThemeRepository;
+import kakao.repository.JdbcTemplateReservationRepository;
+import kakao.repository.JdbcTemplateThemeRepository;
+import kakao.repository.ThemeRepository;
+import kakao.service.ReservationBatchWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+// Theme reads with and without CachingThemeRepository. book() and lookUp() no longer read the theme on the JDBC
+// store, so writeBatch stands in for booking: every bulk import chunk and pipelined batch starts with findIdsByIdIn.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class ThemeCacheBenchmark {
+    private static final int THEME_COUNT = 100;
+    private static final int BATCH_SIZE = 16;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Param({"off", "on"})
+    private String themeCache;
+
+    private BenchmarkDatabase database;
+    private ThemeRepository themeRepository;
+    private ReservationBatchWriter reservationBatchWriter;
+    private final AtomicLong bookingSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase("theme_cache_benchmark");
+        database.seedThemes(THEME_COUNT);
+
+        JdbcTemplateThemeRepository jdbcThemeRepository = new JdbcTemplateThemeRepository(database.getJdbcTemplate());
+        themeRepository = themeCache.equals("on")
+                ? new CachingThemeRepository(jdbcThemeRepository, new SimpleMeterRegistry(), 1_000)
+                : jdbcThemeRepository;
+        reservationBatchWriter = new ReservationBatchWriter(new JdbcTemplateReservationRepository(database.getJdbcTemplate()), themeRepository);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.drop();
+    }
+
+    @Benchmark
+    public boolean existsById() {
+        return themeRepository.existsById(randomThemeId());
+    }
+
+    @Benchmark
+    public Set<Long> findIdsByIdIn() {
+        long first = randomThemeId();
+        return themeRepository.findIdsByIdIn(LongStream.range(first, first + 4)
+                .map(id -> (id - 1) % THEME_COUNT + 1)
+                .boxed()
+                .collect(Collectors.toSet()));
+    }
+
+    @Benchmark
+    public List<BulkReservationResponse> writeBatch() {
+        List<ReservationRequest> reservationRequests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            long sequence = bookingSequence.getAndIncrement();
+            ReservationRequest reservationRequest = new ReservationRequest();
+            reservationRequest.setDate(BenchmarkDatabase.FIRST_DATE.plusDays(sequence / THEME_COUNT / MINUTES_PER_DAY));
+            reservationRequest.setTime(LocalTime.ofSecondOfDay(sequence / THEME_COUNT % MINUTES_PER_DAY * 60));
+            reservationRequest.setName("bench");
+            reservationRequest.setThemeId(sequence % THEME_COUNT + 1);
+            reservationRequests.add(reservationRequest);
+        }
+        return reservationBatchWriter.write(reservationRequests);
+    }
+
+    private long randomThemeId() {
+        return ThreadLocalRandom.current().nextLong(THEME_COUNT) + 1;
+    }
+}
@@ -0,0 +1,58 @@
+package kakao.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kakao.controller.ThemeCatalogue;
+import kakao.repository.JdbcTemplateReservationRepository;
+import kakao.repository.JdbcTemplateThemeRepository;
+import kakao.service.ThemeService;
+import kakao.service.ThemeServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// GET /themes body production before (load, map, serialize per request) and after (the cached snapshot); run with -prof gc for allocation.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThemeCatalogueBenchmark {
+    @Param({"5000"})
+    private int themeCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BenchmarkDatabase database;
+    private ThemeService themeService;
+    private ThemeCatalogue themeCatalogue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase("theme_catalogue_benchmark");
+        database.seedThemes(themeCount);
+
+        themeService = new ThemeServiceImpl(
+                new JdbcTemplateReservationRepository(database.getJdbcTemplate()),
+                new JdbcTemplateThemeRepository(database.getJdbcTemplate()));
+        themeCatalogue = new ThemeCatalogue(themeService, objectMapper);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.drop();
+    }
+
+    @Benchmark
+    public byte[] serializePerRequest() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(themeService.findAll());
+    }
+
+    @Benchmark
+    public byte[] snapshot() {
+        return themeCatalogue.current().getJson();
+    }
+
+    @Benchmark
+    public byte[] gzipSnapshot() {
+        return themeCatalogue.current().getGzip();
+    }
+}
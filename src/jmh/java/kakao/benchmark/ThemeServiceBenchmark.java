@@ -0,0 +1,64 @@
+package kakao.benchmark;
+
+import kakao.controller.request.ThemeRequest;
+import kakao.controller.response.ThemeResponse;
+import kakao.repository.JdbcTemplateReservationRepository;
+import kakao.repository.JdbcTemplateThemeRepository;
+import kakao.service.ThemeService;
+import kakao.service.ThemeServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ThemeServiceBenchmark {
+    @Param({"100", "1000"})
+    private int themeCount;
+
+    private BenchmarkDatabase database;
+    private ThemeService themeService;
+    private final AtomicLong themeSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase("theme_benchmark");
+        database.seedThemes(themeCount);
+
+        themeService = new ThemeServiceImpl(
+                new JdbcTemplateReservationRepository(database.getJdbcTemplate()),
+                new JdbcTemplateThemeRepository(database.getJdbcTemplate()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.drop();
+    }
+
+    @Benchmark
+    public Long create() {
+        return themeService.create(nextThemeRequest());
+    }
+
+    @Benchmark
+    public List<ThemeResponse> findAll() {
+        return themeService.findAll();
+    }
+
+    // Deleting needs a fresh theme every time, so the creation is part of the measured work.
+    @Benchmark
+    public void createThenDelete() {
+        themeService.delete(themeService.create(nextThemeRequest()));
+    }
+
+    private ThemeRequest nextThemeRequest() {
+        ThemeRequest themeRequest = new ThemeRequest();
+        themeRequest.setName("bench-" + themeSequence.getAndIncrement());
+        themeRequest.setDesc("benchmark theme");
+        themeRequest.setPrice(29_000);
+        return themeRequest;
+    }
+}
@@ -0,0 +1,79 @@
+package kakao.benchmark;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.request.ThemeRequest;
+import kakao.repository.InMemoryReservationRepository;
+import kakao.repository.InMemoryThemeRepository;
+import kakao.service.ReservationBatchWriter;
+import kakao.service.ReservationService;
+import kakao.service.ReservationServiceImpl;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// What @Timed costs on book(): the bare service, the CGLIB proxy Spring would create without any aspect, and the
+// same proxy with TimedAspect. The in-memory store keeps the call itself cheap so the proxy cost is not drowned out.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimedAspectBenchmark {
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Param({"direct", "proxy", "timedProxy"})
+    private String invocation;
+
+    private InMemoryReservationRepository reservationRepository;
+    private ReservationService reservationService;
+    private long themeId;
+    private int minute;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryThemeRepository themeRepository = new InMemoryThemeRepository(Optional.empty());
+        ThemeRequest themeRequest = new ThemeRequest();
+        themeRequest.setName("timed");
+        themeRequest.setDesc("timed aspect benchmark");
+        themeRequest.setPrice(29_000);
+        themeId = themeRepository.create(themeRequest);
+
+        reservationRepository = new InMemoryReservationRepository(themeRepository, Optional.empty());
+        ReservationServiceImpl target = new ReservationServiceImpl(reservationRepository,
+                new ReservationBatchWriter(reservationRepository, themeRepository), Optional.empty(), Optional.empty(), Optional.empty());
+        reservationService = invocation.equals("direct") ? target : proxy(target, invocation.equals("timedProxy"));
+    }
+
+    // Every booking is cancelled straight on the repository, outside the measured proxy, so the store never grows.
+    @Benchmark
+    public Long book() {
+        Long id = reservationService.book(nextSlot());
+        reservationRepository.deleteById(id);
+        return id;
+    }
+
+    // Spring Boot proxies by class, as spring.aop.proxy-target-class defaults to true.
+    private static ReservationService proxy(ReservationServiceImpl target, boolean timed) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        if (timed) {
+            proxyFactory.addAspect(new TimedAspect(new SimpleMeterRegistry()));
+        }
+        return proxyFactory.getProxy();
+    }
+
+    private ReservationRequest nextSlot() {
+        minute = (minute + 1) % MINUTES_PER_DAY;
+        ReservationRequest reservationRequest = new ReservationRequest();
+        reservationRequest.setDate(DATE);
+        reservationRequest.setTime(LocalTime.ofSecondOfDay(minute * 60L));
+        reservationRequest.setName("bench");
+        reservationRequest.setThemeId(themeId);
+        return reservationRequest;
+    }
+}
@@ -0,0 +1,73 @@
+package kakao.benchmark;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.repository.JdbcTemplateReservationRepository;
+import kakao.repository.JdbcTemplateThemeRepository;
+import kakao.service.ReservationBatchWriter;
+import kakao.service.ReservationService;
+import kakao.service.ReservationServiceImpl;
+import kakao.service.ReservationWritePipeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Direct against pipelined single bookings; throughput and the sampled p99 come out of one run.
+// For the throughput-vs-p99 curve, repeat with increasing concurrency, e.g. -t 1, 8, 32, 128.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class WritePipelineBenchmark {
+    private static final int THEME_COUNT = 20;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Param({"direct", "pipelined"})
+    private String mode;
+
+    @Param({"2"})
+    private int maxDelayMillis;
+
+    private BenchmarkDatabase database;
+    private ReservationWritePipeline reservationWritePipeline;
+    private ReservationService reservationService;
+    private final AtomicLong bookingSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase("write_pipeline_benchmark");
+        database.seedThemes(THEME_COUNT);
+
+        JdbcTemplateReservationRepository reservationRepository = new JdbcTemplateReservationRepository(database.getJdbcTemplate());
+        JdbcTemplateThemeRepository themeRepository = new JdbcTemplateThemeRepository(database.getJdbcTemplate());
+        ReservationBatchWriter reservationBatchWriter = new ReservationBatchWriter(reservationRepository, themeRepository);
+        if (mode.equals("pipelined")) {
+            reservationWritePipeline = new ReservationWritePipeline(reservationBatchWriter, 128, Duration.ofMillis(maxDelayMillis), Duration.ofSeconds(5), 10_000);
+            reservationWritePipeline.start();
+        }
+        reservationService = new ReservationServiceImpl(reservationRepository, reservationBatchWriter, Optional.ofNullable(reservationWritePipeline),
+                Optional.empty(), Optional.empty());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        if (reservationWritePipeline != null) {
+            reservationWritePipeline.close();
+        }
+        database.drop();
+    }
+
+    @Benchmark
+    public Long book() {
+        long sequence = bookingSequence.getAndIncrement();
+        ReservationRequest reservationRequest = new ReservationRequest();
+        reservationRequest.setDate(BenchmarkDatabase.FIRST_DATE.plusDays(sequence / THEME_COUNT / MINUTES_PER_DAY));
+        reservationRequest.setTime(LocalTime.ofSecondOfDay(sequence / THEME_COUNT % MINUTES_PER_DAY * 60));
+        reservationRequest.setName("bench");
+        reservationRequest.setThemeId(sequence % THEME_COUNT + 1);
+        return reservationService.book(reservationRequest);
+    }
+}
@@ -0,0 +1,149 @@
+package kakao.loadtest;
+
+import kakao.model.Reservation;
+import kakao.model.Theme;
+import kakao.repository.InMemoryReservationRepository;
+import kakao.repository.InMemoryThemeRepository;
+import kakao.repository.ReservationJournal;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+// Writes a journal of N reservation creates and times how long the in-memory store takes to recover it,
+// first from the segments alone and then from a snapshot of the same state.
+public class JournalReplayTiming {
+    private static final int THEMES = 100;
+    private static final int SLOTS_PER_DAY = 12;
+    private static final int IN_FLIGHT = 100_000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+
+    // Options are passed as --name=value: events (default 10000000) and directory.
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String[] option = arg.substring(2).split("=", 2);
+            options.put(option[0], option[1]);
+        }
+        long events = Long.parseLong(options.getOrDefault("events", "10000000"));
+        Path directory = options.containsKey("directory")
+                ? Paths.get(options.get("directory"))
+                : Files.createTempDirectory("journal-replay");
+        deleteRecursively(directory);
+
+        long start = System.nanoTime();
+        write(directory, events);
+        System.out.printf("wrote %,d events in %d ms (%,d bytes)%n", events, millisSince(start), sizeOf(directory));
+
+        System.out.printf("replay from segments: %d ms%n", timeRecovery(directory, false));
+        System.out.printf("replay from snapshot: %d ms%n", timeRecovery(directory, true));
+        deleteRecursively(directory);
+    }
+
+    private static void write(Path directory, long events) throws Exception {
+        ReservationJournal journal = journal(directory);
+        journal.recover(noReplay());
+        journal.start(() -> {
+            throw new IllegalStateException("No snapshot while writing");
+        });
+        try {
+            for (long themeId = 1; themeId <= THEMES; themeId++) {
+                journal.appendThemeCreate(new Theme(themeId, "theme-" + themeId, "desc", 10000)).join();
+            }
+            List<CompletableFuture<Void>> inFlight = new ArrayList<>(IN_FLIGHT);
+            for (long id = 1; id <= events; id++) {
+                long slot = (id - 1) / THEMES;
+                inFlight.add(journal.appendCreate(new Reservation(id, FIRST_DATE.plusDays(slot / SLOTS_PER_DAY),
+                        LocalTime.of(10 + (int) (slot % SLOTS_PER_DAY), 0), "guest", (id - 1) % THEMES + 1)));
+                if (inFlight.size() == IN_FLIGHT) {
+                    CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+                    inFlight.clear();
+                }
+            }
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            journal.close();
+        }
+    }
+
+    // The snapshot run first snapshots the recovered state, then recovers again from that snapshot alone.
+    private static long timeRecovery(Path directory, boolean fromSnapshot) throws Exception {
+        if (fromSnapshot) {
+            ReservationJournal journal = journal(directory);
+            new InMemoryReservationRepository(new InMemoryThemeRepository(Optional.of(journal)), Optional.of(journal));
+            journal.snapshot();
+            journal.close();
+        }
+
+        System.gc();
+        ReservationJournal journal = journal(directory);
+        long start = System.nanoTime();
+        new InMemoryReservationRepository(new InMemoryThemeRepository(Optional.of(journal)), Optional.of(journal));
+        long elapsed = millisSince(start);
+        journal.close();
+        return elapsed;
+    }
+
+    private static ReservationJournal journal(Path directory) {
+        return new ReservationJournal(directory.toString(), 4096, Duration.ofDays(1));
+    }
+
+    private static ReservationJournal.Replay noReplay() {
+        return new ReservationJournal.Replay() {
+            @Override
+            public void sequencesRecovered(long reservationSequence, long themeSequence) {
+            }
+
+            @Override
+            public void themeCreated(Theme theme) {
+            }
+
+            @Override
+            public void themeDeleted(long id) {
+            }
+
+            @Override
+            public void reservationCreated(Reservation reservation) {
+            }
+
+            @Override
+            public void reservationDeleted(long id) {
+            }
+        };
+    }
+
+    private static long millisSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static long sizeOf(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(path -> path.toFile().length()).sum();
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws Exception {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder())
+                    .filter(path -> !path.equals(directory))
+                    .forEach(path -> path.toFile().delete());
+        }
+    }
+}
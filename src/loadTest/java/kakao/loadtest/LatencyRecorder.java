@@ -0,0 +1,40 @@
+package kakao.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Not thread-safe: every client thread records into its own instance and the results are merged at the end.
+class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int size;
+
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    int count() {
+        return size;
+    }
+
+    long percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return samples[Math.max(0, Math.min(index, size - 1))];
+    }
+
+    static LatencyRecorder merge(List<LatencyRecorder> recorders) {
+        LatencyRecorder merged = new LatencyRecorder();
+        for (LatencyRecorder recorder : recorders) {
+            for (int i = 0; i < recorder.size; i++) {
+                merged.record(recorder.samples[i]);
+            }
+        }
+        Arrays.sort(merged.samples, 0, merged.size);
+        return merged;
+    }
+}
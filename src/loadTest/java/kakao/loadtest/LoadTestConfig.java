@@ -0,0 +1,54 @@
+package kakao.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+class LoadTestConfig {
+    final int clients;
+    final Duration duration;
+    final Duration warmup;
+    final int themes;
+    final int days;
+    final int initialReservations;
+    final long seed;
+    // Serves requests on virtual threads (roomescape.virtual-threads.enabled) instead of Tomcat's platform pool.
+    final boolean virtualThreads;
+    // mem runs H2 inside the application; tcp puts an H2 server in front of it, the network path production uses.
+    final String database;
+
+    private LoadTestConfig(Map<String, String> options) {
+        clients = Integer.parseInt(options.getOrDefault("clients", "64"));
+        duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration-seconds", "30")));
+        warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-seconds", "10")));
+        themes = Integer.parseInt(options.getOrDefault("themes", "20"));
+        days = Integer.parseInt(options.getOrDefault("days", "30"));
+        initialReservations = Integer.parseInt(options.getOrDefault("initial-reservations", "2000"));
+        seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        virtualThreads = Boolean.parseBoolean(options.getOrDefault("virtual-threads", "false"));
+        database = options.getOrDefault("database", "mem");
+        if (!database.equals("mem") && !database.equals("tcp")) {
+            throw new IllegalArgumentException("database must be mem or tcp but was " + database);
+        }
+    }
+
+    // Options are passed as --name=value, e.g. --clients=128 --duration-seconds=60.
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String[] option = arg.substring(2).split("=", 2);
+            options.put(option[0], option[1]);
+        }
+        return new LoadTestConfig(options);
+    }
+
+    @Override
+    public String toString() {
+        return "clients=" + clients + ", duration=" + duration.getSeconds() + "s, warmup=" + warmup.getSeconds() + "s"
+                + ", themes=" + themes + ", days=" + days + ", initialReservations=" + initialReservations + ", seed=" + seed
+                + ", virtualThreads=" + virtualThreads + ", database=" + database;
+    }
+}
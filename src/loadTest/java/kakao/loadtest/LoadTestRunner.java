@@ -0,0 +1,126 @@
+package kakao.loadtest;
+
+import kakao.RoomEscapeApplication;
+import org.h2.tools.Server;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoadTestRunner {
+    private static final AtomicInteger RUNS = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        Result result = run(config);
+        printReport(config, result);
+    }
+
+    // Each run gets its own application and database, so runs in one JVM do not see each other's data.
+    static Result run(LoadTestConfig config) throws Exception {
+        String databaseName = "loadtest" + RUNS.incrementAndGet();
+        Server h2Server = config.database.equals("tcp") ? startH2Server() : null;
+        String url = h2Server == null
+                ? "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1"
+                : "jdbc:h2:tcp://localhost:" + h2Server.getPort() + "/mem:" + databaseName + ";DB_CLOSE_DELAY=-1";
+
+        try (PinnedThreadMonitor pinnedThreads = PinnedThreadMonitor.start();
+             ConfigurableApplicationContext context = startApplication(config, url)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Workload workload = new Workload(URI.create("http://localhost:" + port), config);
+
+            workload.seed();
+            pinnedThreads.reset();
+            Map<Operation, LatencyRecorder> latencies = workload.run();
+            return new Result(latencies, workload.errorCounts(), pinnedThreads.count(), pinnedThreads.inH2Count());
+        } finally {
+            if (h2Server != null) {
+                h2Server.stop();
+            }
+        }
+    }
+
+    // Runs the real application against a private H2 database, so no outside services are needed.
+    // Tomcat must accept every client at once, otherwise the comparison measures its connection limit.
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config, String url) {
+        return new SpringApplicationBuilder(RoomEscapeApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.max-connections=" + Math.max(8192, config.clients * 2),
+                        "server.tomcat.accept-count=" + Math.max(100, config.clients),
+                        "roomescape.virtual-threads.enabled=" + config.virtualThreads,
+                        "spring.datasource.url=" + url,
+                        "spring.main.banner-mode=off")
+                .run();
+    }
+
+    private static Server startH2Server() throws IOException, SQLException {
+        return Server.createTcpServer("-tcpPort", String.valueOf(freePort()), "-ifNotExists").start();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    static void printReport(LoadTestConfig config, Result result) {
+        double seconds = config.duration.toMillis() / 1000.0;
+        long total = 0;
+
+        System.out.println();
+        System.out.println("Load test: " + config);
+        System.out.printf("%-12s %10s %10s %10s %10s %10s%n", "operation", "count", "ops/s", "p50(ms)", "p99(ms)", "p999(ms)");
+        for (Map.Entry<Operation, LatencyRecorder> entry : result.latencies.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            total += recorder.count();
+            System.out.printf("%-12s %10d %10.1f %10.2f %10.2f %10.2f%n",
+                    entry.getKey(), recorder.count(), recorder.count() / seconds,
+                    toMillis(recorder.percentile(0.50)), toMillis(recorder.percentile(0.99)), toMillis(recorder.percentile(0.999)));
+        }
+        System.out.printf("%-12s %10d %10.1f%n", "total", total, total / seconds);
+
+        System.out.println();
+        System.out.println("Error codes:");
+        if (result.errorCounts.isEmpty()) {
+            System.out.println("  (none)");
+        }
+        result.errorCounts.forEach((code, count) -> System.out.printf("  %-32s %10d%n", code, count));
+
+        System.out.println();
+        System.out.printf("Pinned virtual threads: %d (%d inside H2)%n", result.pinnedThreads, result.pinnedThreadsInH2);
+    }
+
+    static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    static class Result {
+        final Map<Operation, LatencyRecorder> latencies;
+        final Map<String, Long> errorCounts;
+        final long pinnedThreads;
+        final long pinnedThreadsInH2;
+
+        Result(Map<Operation, LatencyRecorder> latencies, Map<String, Long> errorCounts, long pinnedThreads, long pinnedThreadsInH2) {
+            this.latencies = latencies;
+            this.errorCounts = errorCounts;
+            this.pinnedThreads = pinnedThreads;
+            this.pinnedThreadsInH2 = pinnedThreadsInH2;
+        }
+
+        long totalCount() {
+            return latencies.values().stream().mapToLong(LatencyRecorder::count).sum();
+        }
+
+        long errorCount() {
+            return errorCounts.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
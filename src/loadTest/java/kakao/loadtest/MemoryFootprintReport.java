@@ -0,0 +1,91 @@
+package kakao.loadtest;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.request.ThemeRequest;
+import kakao.repository.InMemoryReservationRepository;
+import kakao.repository.InMemoryThemeRepository;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Fills the in-memory store (without journal) and reports the retained heap per reservation after a full GC.
+public class MemoryFootprintReport {
+    private static final int THEMES = 100;
+    private static final int SLOTS_PER_DAY = 12;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int REPORT_EVERY = 1_000_000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+
+    // Options are passed as --name=value: reservations (default 10000000).
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String[] option = arg.substring(2).split("=", 2);
+            options.put(option[0], option[1]);
+        }
+        int reservations = Integer.parseInt(options.getOrDefault("reservations", "10000000"));
+
+        long baseline = retainedHeap();
+        InMemoryThemeRepository themeRepository = new InMemoryThemeRepository(Optional.empty());
+        for (int i = 1; i <= THEMES; i++) {
+            ThemeRequest themeRequest = new ThemeRequest();
+            themeRequest.setName("theme-" + i);
+            themeRequest.setDesc("footprint theme " + i);
+            themeRequest.setPrice(29_000);
+            themeRepository.create(themeRequest);
+        }
+        InMemoryReservationRepository reservationRepository = new InMemoryReservationRepository(themeRepository, Optional.empty());
+
+        List<ReservationRequest> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < reservations; i++) {
+            batch.add(reservation(i));
+            if (batch.size() == BATCH_SIZE) {
+                reservationRepository.createAll(batch);
+                batch.clear();
+            }
+            if ((i + 1) % REPORT_EVERY == 0) {
+                report(i + 1, retainedHeap() - baseline);
+            }
+        }
+        if (!batch.isEmpty()) {
+            reservationRepository.createAll(batch);
+        }
+        report(reservations, retainedHeap() - baseline);
+        // Keeps the store reachable until the last measurement.
+        System.out.println("store holds theme 1: " + reservationRepository.existsByThemeId(1L));
+    }
+
+    // Names are distinct per booking, as they would be for real guests, so they are part of the footprint.
+    private static ReservationRequest reservation(int n) {
+        int slot = n / THEMES;
+        ReservationRequest reservationRequest = new ReservationRequest();
+        reservationRequest.setDate(FIRST_DATE.plusDays(slot / SLOTS_PER_DAY));
+        reservationRequest.setTime(LocalTime.of(10 + slot % SLOTS_PER_DAY, 0));
+        reservationRequest.setName("guest-" + n);
+        reservationRequest.setThemeId((long) (n % THEMES) + 1);
+        return reservationRequest;
+    }
+
+    private static void report(int reservations, long bytes) {
+        System.out.printf("%,d reservations: %,d MB retained, %d bytes per reservation%n",
+                reservations, bytes / (1024 * 1024), bytes / reservations);
+    }
+
+    private static long retainedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,25 @@
+package kakao.loadtest;
+
+enum Operation {
+    LOOKUP(70),
+    BOOK(20),
+    CANCEL(5),
+    LIST_THEMES(5);
+
+    private final int weight;
+
+    Operation(int weight) {
+        this.weight = weight;
+    }
+
+    static Operation pick(int percent) {
+        int threshold = 0;
+        for (Operation operation : values()) {
+            threshold += operation.weight;
+            if (percent < threshold) {
+                return operation;
+            }
+        }
+        return LIST_THEMES;
+    }
+}
@@ -0,0 +1,65 @@
+package kakao.loadtest;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counts jdk.VirtualThreadPinned events: a virtual thread that blocks inside synchronized (or a native frame) holds
+// on to its carrier thread. Pins whose stack runs through org.h2 are counted apart; see VirtualThreadConfig.
+class PinnedThreadMonitor implements AutoCloseable {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    // Short pins are harmless; this is the JDK's default threshold for the event.
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+
+    private final RecordingStream stream = new RecordingStream();
+    private final LongAdder pinned = new LongAdder();
+    private final LongAdder pinnedInH2 = new LongAdder();
+
+    private PinnedThreadMonitor() {
+        stream.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+    }
+
+    static PinnedThreadMonitor start() {
+        PinnedThreadMonitor monitor = new PinnedThreadMonitor();
+        monitor.stream.startAsync();
+        return monitor;
+    }
+
+    // Drops what was seen while seeding, so the counts cover the measured run only.
+    void reset() {
+        pinned.reset();
+        pinnedInH2.reset();
+    }
+
+    long count() {
+        return pinned.sum();
+    }
+
+    long inH2Count() {
+        return pinnedInH2.sum();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private void record(RecordedEvent event) {
+        pinned.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.getMethod() != null && frame.getMethod().getType().getName().startsWith("org.h2.")) {
+                pinnedInH2.increment();
+                return;
+            }
+        }
+    }
+}
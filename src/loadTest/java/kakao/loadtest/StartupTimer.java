@@ -0,0 +1,121 @@
+package kakao.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Boots the application in a fresh JVM per run and measures from process launch to the first 200 from GET /themes.
+public class StartupTimer {
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final Duration TIMEOUT = Duration.ofSeconds(120);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    // Options are passed as --name=value: java, classpath, runs, profiles and an optional cds-archive.
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String[] option = arg.substring(2).split("=", 2);
+            options.put(option[0], option[1]);
+        }
+
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        StartupTimer timer = new StartupTimer();
+        List<Long> millis = new ArrayList<>(runs);
+        for (int run = 1; run <= runs; run++) {
+            int port = freePort();
+            long elapsed = timer.measure(command(options, port), port);
+            millis.add(elapsed);
+            System.out.printf("run %d: %d ms%n", run, elapsed);
+        }
+
+        Collections.sort(millis);
+        System.out.println();
+        System.out.println("Startup (" + options.getOrDefault("profiles", "default") + (options.containsKey("cds-archive") ? ", cds" : "") + ")");
+        System.out.printf("time to first successful request: min %d ms, median %d ms, max %d ms%n",
+                millis.get(0), millis.get(millis.size() / 2), millis.get(millis.size() - 1));
+    }
+
+    private static List<String> command(Map<String, String> options, int port) {
+        List<String> command = new ArrayList<>();
+        command.add(required(options, "java"));
+        if (options.containsKey("cds-archive")) {
+            command.add("-XX:SharedArchiveFile=" + options.get("cds-archive"));
+        }
+        command.addAll(Arrays.asList("-cp", required(options, "classpath"), "kakao.RoomEscapeApplication"));
+        command.add("--server.port=" + port);
+        // Each run gets a fresh in-memory database, so schema initialization is part of what is measured.
+        command.add("--spring.datasource.url=jdbc:h2:mem:startup");
+        command.add("--spring.main.banner-mode=off");
+        if (options.containsKey("profiles")) {
+            command.add("--spring.profiles.active=" + options.get("profiles"));
+        }
+        return command;
+    }
+
+    private long measure(List<String> command, int port) throws Exception {
+        URI uri = URI.create("http://localhost:" + port + "/themes");
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with code " + process.exitValue() + " before serving a request");
+                }
+                if (isUp(uri)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException("Application did not serve a request within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private boolean isUp(URI uri) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(1)).GET().build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing --" + name + "=...");
+        }
+        return value;
+    }
+}
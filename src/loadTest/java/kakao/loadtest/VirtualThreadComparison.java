@@ -0,0 +1,44 @@
+package kakao.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Runs the load test at 1k, 5k and 10k clients, once on Tomcat's platform thread pool and once on virtual threads,
+// and prints one line per run. Any other load test option (e.g. --database=tcp) is passed through.
+public class VirtualThreadComparison {
+    private static final int[] CLIENTS = {1_000, 5_000, 10_000};
+
+    public static void main(String[] args) throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int clients : CLIENTS) {
+            for (boolean virtualThreads : new boolean[]{false, true}) {
+                List<String> runArgs = new ArrayList<>(Arrays.asList(args));
+                runArgs.add("--clients=" + clients);
+                runArgs.add("--virtual-threads=" + virtualThreads);
+                LoadTestConfig config = LoadTestConfig.parse(runArgs.toArray(new String[0]));
+
+                LoadTestRunner.Result result = LoadTestRunner.run(config);
+                LoadTestRunner.printReport(config, result);
+                lines.add(summary(config, result));
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-8s %8s %10s %10s %10s %10s %12s%n", "threads", "clients", "ops/s", "book p99", "lookup p99", "errors", "pinned(h2)");
+        lines.forEach(System.out::println);
+    }
+
+    private static String summary(LoadTestConfig config, LoadTestRunner.Result result) {
+        double seconds = config.duration.toMillis() / 1000.0;
+        return String.format("%-8s %8d %10.1f %10.2f %10.2f %10d %12s",
+                config.virtualThreads ? "virtual" : "platform", config.clients, result.totalCount() / seconds,
+                p99Millis(result, Operation.BOOK), p99Millis(result, Operation.LOOKUP), result.errorCount(),
+                result.pinnedThreads + "(" + result.pinnedThreadsInH2 + ")");
+    }
+
+    private static double p99Millis(LoadTestRunner.Result result, Operation operation) {
+        LatencyRecorder recorder = result.latencies.get(operation);
+        return recorder == null ? 0 : LoadTestRunner.toMillis(recorder.percentile(0.99));
+    }
+}
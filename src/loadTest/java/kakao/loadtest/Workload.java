@@ -0,0 +1,183 @@
+package kakao.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class Workload {
+    private static final Pattern ERROR_CODE = Pattern.compile("\"code\"\\s*:\\s*\"(\\w+)\"");
+    private static final int KNOWN_ID_CAPACITY = 1 << 16;
+    private static final int OPENING_HOUR = 10;
+    private static final int SLOTS_PER_DAY = 12;
+
+    private final URI baseUri;
+    private final LoadTestConfig config;
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final LocalDate firstDate = LocalDate.now().plusDays(1);
+
+    private final List<Long> themeIds = new ArrayList<>();
+    // Ring of recently created reservation ids that lookups and cancellations draw from.
+    private final AtomicLongArray knownIds = new AtomicLongArray(KNOWN_ID_CAPACITY);
+    private final AtomicLong knownIdCount = new AtomicLong();
+    private final Map<String, LongAdder> errorCounts = new ConcurrentHashMap<>();
+
+    Workload(URI baseUri, LoadTestConfig config) {
+        this.baseUri = baseUri;
+        this.config = config;
+    }
+
+    void seed() throws IOException, InterruptedException {
+        for (int i = 1; i <= config.themes; i++) {
+            String body = "{\"name\":\"load-theme-" + i + "\",\"desc\":\"load test theme\",\"price\":29000}";
+            HttpResponse<String> response = send(post("/themes", body), false);
+            themeIds.add(createdId(response));
+        }
+
+        Random random = new Random(config.seed);
+        for (int i = 0; i < config.initialReservations; i++) {
+            book(random, false);
+        }
+    }
+
+    Map<Operation, LatencyRecorder> run() throws InterruptedException, ExecutionException {
+        // Clients only wait on sockets, so virtual threads let one generator drive 10k of them.
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        long warmupEnd = System.nanoTime() + config.warmup.toNanos();
+        long end = warmupEnd + config.duration.toNanos();
+
+        List<Future<Map<Operation, LatencyRecorder>>> clients = new ArrayList<>();
+        for (int client = 0; client < config.clients; client++) {
+            Random random = new Random(config.seed + client + 1);
+            clients.add(executor.submit(() -> runClient(random, warmupEnd, end)));
+        }
+
+        Map<Operation, List<LatencyRecorder>> recordersByOperation = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, LatencyRecorder>> client : clients) {
+            client.get().forEach((operation, recorder) ->
+                    recordersByOperation.computeIfAbsent(operation, it -> new ArrayList<>()).add(recorder));
+        }
+        executor.shutdown();
+
+        Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+        recordersByOperation.forEach((operation, recorders) -> merged.put(operation, LatencyRecorder.merge(recorders)));
+        return merged;
+    }
+
+    Map<String, Long> errorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        errorCounts.forEach((code, count) -> counts.put(code, count.sum()));
+        return counts;
+    }
+
+    private Map<Operation, LatencyRecorder> runClient(Random random, long warmupEnd, long end) {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+
+        long start;
+        while ((start = System.nanoTime()) < end) {
+            Operation operation = Operation.pick(random.nextInt(100));
+            boolean measured = start >= warmupEnd;
+            try {
+                execute(operation, random, measured);
+            } catch (IOException e) {
+                countError("IO_ERROR", measured);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (measured) {
+                recorders.get(operation).record(System.nanoTime() - start);
+            }
+        }
+        return recorders;
+    }
+
+    private void execute(Operation operation, Random random, boolean measured) throws IOException, InterruptedException {
+        switch (operation) {
+            case LOOKUP:
+                send(HttpRequest.newBuilder(baseUri.resolve("/reservations/" + randomKnownId(random))).GET().build(), measured);
+                break;
+            case BOOK:
+                book(random, measured);
+                break;
+            case CANCEL:
+                send(HttpRequest.newBuilder(baseUri.resolve("/reservations/" + randomKnownId(random))).DELETE().build(), measured);
+                break;
+            case LIST_THEMES:
+                send(HttpRequest.newBuilder(baseUri.resolve("/themes")).GET().build(), measured);
+                break;
+        }
+    }
+
+    // Slots are drawn from a bounded calendar, so bookings collide with each other at a realistic rate.
+    private void book(Random random, boolean measured) throws IOException, InterruptedException {
+        long themeId = themeIds.get(random.nextInt(themeIds.size()));
+        LocalDate date = firstDate.plusDays(random.nextInt(config.days));
+        LocalTime time = LocalTime.of(OPENING_HOUR + random.nextInt(SLOTS_PER_DAY), 0);
+        String body = "{\"date\":\"" + date + "\",\"time\":\"" + time + "\",\"name\":\"load\",\"themeId\":" + themeId + "}";
+
+        HttpResponse<String> response = send(post("/reservations", body), measured);
+        if (response.statusCode() == 201) {
+            long index = knownIdCount.getAndIncrement();
+            knownIds.set((int) (index % KNOWN_ID_CAPACITY), createdId(response));
+        }
+    }
+
+    private long randomKnownId(Random random) {
+        long count = Math.min(knownIdCount.get(), KNOWN_ID_CAPACITY);
+        if (count == 0) {
+            return 1;
+        }
+        return knownIds.get(random.nextInt((int) count));
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request, boolean measured) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            Matcher matcher = ERROR_CODE.matcher(response.body());
+            countError(matcher.find() ? matcher.group(1) : "HTTP_" + response.statusCode(), measured);
+        }
+        return response;
+    }
+
+    private void countError(String code, boolean measured) {
+        if (measured) {
+            errorCounts.computeIfAbsent(code, it -> new LongAdder()).increment();
+        }
+    }
+
+    private long createdId(HttpResponse<String> response) {
+        String location = response.headers().firstValue("Location")
+                .orElseThrow(() -> new IllegalStateException("Expected a Location header but got status " + response.statusCode()));
+        return Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+    }
+}
@@ -0,0 +1,37 @@
+package kakao.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("roomescape.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = false;
+
+    // Buckets kept per key space; clients beyond this share one overflow bucket.
+    private int maxBuckets = 100_000;
+
+    private Limit booking = new Limit(5, 10);
+
+    private Limit lookup = new Limit(50, 100);
+
+    private Limit themeBooking = new Limit(200, 400);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        // Sustained requests per second.
+        private double rate;
+
+        // Requests allowed back to back after an idle period.
+        private int burst;
+    }
+}
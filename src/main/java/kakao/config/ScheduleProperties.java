@@ -0,0 +1,45 @@
+package kakao.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("roomescape.schedule")
+public class ScheduleProperties {
+    @DateTimeFormat(pattern = "HH:mm")
+    private LocalTime openTime = LocalTime.of(10, 0);
+
+    @DateTimeFormat(pattern = "HH:mm")
+    private LocalTime closeTime = LocalTime.of(22, 0);
+
+    private Duration slotInterval = Duration.ofHours(1);
+
+    private int maxDays = 31;
+
+    // A zero or negative interval would never reach close-time, so it is rejected when the properties are bound.
+    public void setSlotInterval(Duration slotInterval) {
+        if (slotInterval.isZero() || slotInterval.isNegative()) {
+            throw new IllegalArgumentException("roomescape.schedule.slot-interval must be positive, got " + slotInterval);
+        }
+        this.slotInterval = slotInterval;
+    }
+
+    public List<LocalTime> slotTimes() {
+        List<LocalTime> slotTimes = new ArrayList<>();
+        long intervalSeconds = slotInterval.getSeconds();
+        for (long second = openTime.toSecondOfDay(); second + intervalSeconds <= closeTime.toSecondOfDay(); second += intervalSeconds) {
+            slotTimes.add(LocalTime.ofSecondOfDay(second));
+        }
+        return slotTimes;
+    }
+}
@@ -0,0 +1,12 @@
+package kakao.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Only the reservation archival job is scheduled, so scheduling is switched on together with it.
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "roomescape.archive.enabled", havingValue = "true")
+public class SchedulingConfig {
+}
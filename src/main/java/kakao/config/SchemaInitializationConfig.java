@@ -0,0 +1,21 @@
+package kakao.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// Replaces Spring Boot's script initializer, which backs off when one of its type is already defined.
+@Configuration
+@EnableConfigurationProperties(SqlInitializationProperties.class)
+@ConditionalOnProperty(name = "roomescape.schema.skip-when-current", havingValue = "true")
+public class SchemaInitializationConfig {
+
+    @Bean
+    public VersionedSchemaInitializer versionedSchemaInitializer(DataSource dataSource, SqlInitializationProperties properties) {
+        return new VersionedSchemaInitializer(dataSource, properties);
+    }
+}
@@ -0,0 +1,18 @@
+package kakao.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+// Used by the cdsArchive Gradle task: the JVM exits once start-up is complete and dumps the classes it loaded.
+@Configuration
+@ConditionalOnProperty(name = "roomescape.startup.exit-when-ready", havingValue = "true")
+public class TrainingRunConfig {
+
+    @EventListener
+    public void exitWhenReady(ApplicationReadyEvent event) {
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,75 @@
+package kakao.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+// Runs schema.sql only when its checksum differs from the one recorded by the last run, so an unchanged schema costs one query at boot.
+@Slf4j
+public class VersionedSchemaInitializer extends SqlDataSourceScriptDatabaseInitializer {
+    private static final String SCHEMA_LOCATION = "schema.sql";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VersionedSchemaInitializer(DataSource dataSource, SqlInitializationProperties properties) {
+        super(dataSource, properties);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public boolean initializeDatabase() {
+        String checksum = schemaChecksum();
+        if (checksum.equals(appliedChecksum())) {
+            log.info("Schema is up to date ({}); skipping {}", checksum, SCHEMA_LOCATION);
+            return false;
+        }
+
+        boolean initialized = super.initializeDatabase();
+        if (initialized) {
+            recordChecksum(checksum);
+            reportQuarantine();
+        }
+        return initialized;
+    }
+
+    private String schemaChecksum() {
+        try (InputStream inputStream = new ClassPathResource(SCHEMA_LOCATION).getInputStream()) {
+            return DigestUtils.md5DigestAsHex(StreamUtils.copyToByteArray(inputStream));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A missing table just means the schema has never been recorded.
+    private String appliedChecksum() {
+        try {
+            List<String> checksums = jdbcTemplate.queryForList("SELECT checksum FROM schema_version", String.class);
+            return checksums.isEmpty() ? null : checksums.get(0);
+        } catch (DataAccessException e) {
+            return null;
+        }
+    }
+
+    private void reportQuarantine() {
+        jdbcTemplate.query("SELECT reason, COUNT(*) FROM reservation_quarantine GROUP BY reason", resultSet -> {
+            log.warn("{} reservations moved to reservation_quarantine ({}); resolve them by hand", resultSet.getLong(2), resultSet.getString(1));
+        });
+    }
+
+    private void recordChecksum(String checksum) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_version (checksum varchar(32) not null)");
+        jdbcTemplate.update("DELETE FROM schema_version");
+        jdbcTemplate.update("INSERT INTO schema_version (checksum) VALUES (?)", checksum);
+    }
+}
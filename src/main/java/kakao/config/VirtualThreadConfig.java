@@ -0,0 +1,31 @@
+package kakao.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+// On JDK 21 a virtual thread that blocks inside synchronized pins its carrier thread. The H2 client driver does its
+// socket I/O inside synchronized (session), so against the H2 TCP server every query in flight pins a carrier and
+// requests stop scaling past the carrier count (one per core). Compare with ./gradlew compareVirtualThreads
+// -PloadTestArgs=--database=tcp, which counts the pinned events, before turning this on for a JDBC-backed deployment.
+@Configuration
+@ConditionalOnProperty(name = "roomescape.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // Also backs Spring MVC async work such as the streaming reservation export.
+    @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
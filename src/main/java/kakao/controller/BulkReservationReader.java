@@ -0,0 +1,133 @@
+package kakao.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kakao.controller.request.ReservationRequest;
+import kakao.exception.InvalidReservationRequestException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Reads a bulk body one element at a time. An element that is not a complete reservation makes next() throw
+// InvalidReservationRequestException for that element only, so the elements around it are still imported.
+public class BulkReservationReader implements Iterator<ReservationRequest>, Closeable {
+    private final ObjectMapper objectMapper;
+    private final BufferedReader lines;
+    private final MappingIterator<JsonNode> elements;
+
+    private JsonNode nextElement;
+    private boolean readAhead;
+    private boolean exhausted;
+    private boolean broken;
+
+    public BulkReservationReader(ObjectMapper objectMapper, InputStream body, boolean ndjson) throws IOException {
+        this.objectMapper = objectMapper;
+        // NDJSON is split into lines first, so a malformed line does not stop the lines after it.
+        this.lines = ndjson ? new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)) : null;
+        MappingIterator<JsonNode> elements = null;
+        if (!ndjson) {
+            try {
+                elements = objectMapper.readerFor(JsonNode.class).readValues(body);
+            } catch (JsonProcessingException e) {
+                // A body that does not even start like JSON is reported as one failed element.
+                broken = true;
+                readAhead = true;
+            }
+        }
+        this.elements = elements;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!readAhead) {
+            nextElement = lines != null ? readLine() : readElement();
+            readAhead = true;
+        }
+        return !exhausted;
+    }
+
+    @Override
+    public ReservationRequest next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        readAhead = false;
+        return toReservationRequest(nextElement);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (lines != null) {
+            lines.close();
+        } else if (elements != null) {
+            elements.close();
+        }
+    }
+
+    private JsonNode readLine() {
+        try {
+            String line;
+            do {
+                line = lines.readLine();
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                exhausted = true;
+                return null;
+            }
+            return objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode readElement() {
+        if (broken) {
+            exhausted = true;
+            return null;
+        }
+        try {
+            if (!elements.hasNextValue()) {
+                exhausted = true;
+                return null;
+            }
+            return elements.nextValue();
+        } catch (JsonProcessingException e) {
+            // Past a syntax error the next element of a JSON array cannot be located, so this one fails and reading stops.
+            broken = true;
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ReservationRequest toReservationRequest(JsonNode element) {
+        if (element == null) {
+            throw new InvalidReservationRequestException();
+        }
+        ReservationRequest reservationRequest;
+        try {
+            reservationRequest = objectMapper.treeToValue(element, ReservationRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new InvalidReservationRequestException();
+        }
+        if (reservationRequest == null
+                || reservationRequest.getDate() == null
+                || reservationRequest.getTime() == null
+                || reservationRequest.getName() == null
+                || reservationRequest.getThemeId() == null) {
+            throw new InvalidReservationRequestException();
+        }
+        return reservationRequest;
+    }
+}
@@ -0,0 +1,117 @@
+package kakao.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kakao.exception.IdempotencyKeyReusedException;
+import kakao.exception.InvalidIdempotencyKeyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+// Remembers the response of a request per client and Idempotency-Key so a client retry replays it instead of executing
+// again. A SHA-256 of the request body is kept with it, so reusing a key for a different request is refused.
+// Entries are kept in insertion order, which is also expiry order, so both the TTL and the size bound evict from the head.
+@Component
+public class IdempotencyStore {
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 128;
+    // Cannot occur in a header value, so no scope, client and key combination can spell another one.
+    private static final char KEY_SEPARATOR = '\0';
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public IdempotencyStore(ObjectMapper objectMapper,
+                            @Value("${roomescape.idempotency.max-entries:100000}") int maxEntries,
+                            @Value("${roomescape.idempotency.ttl:24h}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(String scope, String client, String idempotencyKey, Object requestBody,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException();
+        }
+
+        String key = scope + KEY_SEPARATOR + client + KEY_SEPARATOR + idempotencyKey;
+        Entry entry = new Entry(System.nanoTime(), hash(requestBody));
+        Entry existing;
+        synchronized (this) {
+            evict(entry.createdAt);
+            existing = entries.putIfAbsent(key, entry);
+        }
+
+        // A concurrent retry waits for the first attempt and shares its outcome.
+        if (existing != null) {
+            if (!MessageDigest.isEqual(existing.requestHash, entry.requestHash)) {
+                throw new IdempotencyKeyReusedException();
+            }
+            try {
+                return (ResponseEntity<T>) existing.response.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        try {
+            ResponseEntity<T> response = action.get();
+            entry.response.complete(response);
+            return response;
+        } catch (Throwable e) {
+            // Failures of any kind are not remembered, so a later retry executes again and a waiting one is released.
+            synchronized (this) {
+                entries.remove(key, entry);
+            }
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private byte[] hash(Object requestBody) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(requestBody));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint the request body", e);
+        }
+    }
+
+    private void evict(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            if (entries.size() < maxEntries && now - eldest.createdAt < ttlNanos) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private static class Entry {
+        private final long createdAt;
+        private final byte[] requestHash;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        private Entry(long createdAt, byte[] requestHash) {
+            this.createdAt = createdAt;
+            this.requestHash = requestHash;
+        }
+    }
+}
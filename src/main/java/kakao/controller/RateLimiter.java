@@ -0,0 +1,41 @@
+package kakao.controller;
+
+import kakao.config.RateLimitProperties;
+import kakao.exception.TooManyRequestsException;
+import org.springframework.stereotype.Component;
+
+// Admission control for the reservation endpoints. Bookings and lookups draw from separate per-client budgets,
+// so a booking storm cannot starve reads, and every booking also draws from its theme's budget.
+@Component
+public class RateLimiter {
+    private final boolean enabled;
+    private final TokenBuckets<String> bookingsByClient;
+    private final TokenBuckets<String> lookupsByClient;
+    private final TokenBuckets<Long> bookingsByTheme;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.bookingsByClient = new TokenBuckets<>(properties.getBooking(), properties.getMaxBuckets());
+        this.lookupsByClient = new TokenBuckets<>(properties.getLookup(), properties.getMaxBuckets());
+        this.bookingsByTheme = new TokenBuckets<>(properties.getThemeBooking(), properties.getMaxBuckets());
+    }
+
+    public void acquireBooking(String clientId) {
+        if (enabled && !bookingsByClient.tryAcquire(clientId, System.nanoTime())) {
+            throw new TooManyRequestsException();
+        }
+    }
+
+    // Checked after the client's own budget, so a client over its limit does not also drain the theme's.
+    public void acquireThemeBooking(Long themeId) {
+        if (enabled && !bookingsByTheme.tryAcquire(themeId, System.nanoTime())) {
+            throw new TooManyRequestsException();
+        }
+    }
+
+    public void acquireLookup(String clientId) {
+        if (enabled && !lookupsByClient.tryAcquire(clientId, System.nanoTime())) {
+            throw new TooManyRequestsException();
+        }
+    }
+}
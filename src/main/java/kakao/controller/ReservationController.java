@@ -1,31 +1,81 @@
 package kakao.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kakao.controller.request.ReservationRequest;
+import kakao.controller.response.BulkReservationResponse;
 import kakao.controller.response.ReservationResponse;
 import kakao.service.ReservationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/reservations")
 public class ReservationController {
     private final ReservationService reservationService;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
+    private final RateLimiter rateLimiter;
+
+    // Ids can be handed out again after a restart (an in-memory database, or the memory store without its journal),
+    // so a tag from an earlier process must not match a different reservation that now has the same id.
+    private final String bootNonce = UUID.randomUUID().toString().substring(0, 8);
 
     @PostMapping
-    public ResponseEntity<String> createReservation(@RequestBody ReservationRequest reservationRequest) {
-        Long reservationId = reservationService.book(reservationRequest);
-        String location = "/reservations/" + reservationId.toString();
+    public ResponseEntity<String> createReservation(@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                    @RequestBody ReservationRequest reservationRequest,
+                                                    HttpServletRequest request) {
+        rateLimiter.acquireBooking(request.getRemoteAddr());
+        rateLimiter.acquireThemeBooking(reservationRequest.getThemeId());
+
+        return idempotencyStore.execute("reservations", request.getRemoteAddr(), idempotencyKey, reservationRequest, () -> {
+            Long reservationId = reservationService.book(reservationRequest);
+            String location = "/reservations/" + reservationId.toString();
 
-        return ResponseEntity.created(URI.create(location)).build();
+            return ResponseEntity.created(URI.create(location)).build();
+        });
+    }
+
+    // A JSON array and an NDJSON stream are both read lazily, one element at a time.
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<List<BulkReservationResponse>> createReservations(InputStream requestBody,
+                                                                           HttpServletRequest request) throws IOException {
+        rateLimiter.acquireBooking(request.getRemoteAddr());
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+        try (BulkReservationReader reservationRequests = new BulkReservationReader(objectMapper, requestBody, ndjson)) {
+            return ResponseEntity.ok(reservationService.bookAll(chargingThemes(reservationRequests)));
+        }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ReservationResponse> getReservation(@PathVariable Long id) {
-        return ResponseEntity.ok(reservationService.lookUp(id));
+    public ResponseEntity<ReservationResponse> getReservation(@PathVariable Long id, WebRequest webRequest,
+                                                              HttpServletRequest request) {
+        rateLimiter.acquireLookup(request.getRemoteAddr());
+
+        // A reservation and its theme never change while it exists, so within one process its id is a strong validator.
+        // Revalidating only has to confirm it was not cancelled, which is a primary-key probe instead of the join.
+        String eTag = "reservation-" + bootNonce + "-" + id;
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && reservationService.exists(id)
+                && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(reservationService.lookUp(id));
     }
 
     @DeleteMapping("/{id}")
@@ -34,4 +84,22 @@ public class ReservationController {
 
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // Every item draws from its theme's budget like a single booking would; an item over budget fails on its own
+    // with TOO_MANY_REQUESTS, so one bulk call cannot book a theme past its limit.
+    private Iterator<ReservationRequest> chargingThemes(Iterator<ReservationRequest> reservationRequests) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return reservationRequests.hasNext();
+            }
+
+            @Override
+            public ReservationRequest next() {
+                ReservationRequest reservationRequest = reservationRequests.next();
+                rateLimiter.acquireThemeBooking(reservationRequest.getThemeId());
+                return reservationRequest;
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package kakao.controller;
+
+import kakao.controller.response.AvailabilityResponse;
+import kakao.model.DateRange;
+import kakao.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/themes/{themeId}/availability")
+public class ThemeAvailabilityController {
+    private final AvailabilityService availabilityService;
+
+    @GetMapping(params = "date")
+    public ResponseEntity<AvailabilityResponse> getAvailability(@PathVariable Long themeId,
+                                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(availabilityService.findAvailability(themeId, new DateRange(date, date)).get(0));
+    }
+
+    @GetMapping(params = {"from", "to"})
+    public ResponseEntity<List<AvailabilityResponse>> getAvailabilities(@PathVariable Long themeId,
+                                                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(availabilityService.findAvailability(themeId, new DateRange(from, to)));
+    }
+}
@@ -0,0 +1,70 @@
+package kakao.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kakao.service.ThemeService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+// The GET /themes body, kept serialized (plain and gzip) and rebuilt only after the catalogue version has moved.
+@Component
+@RequiredArgsConstructor
+public class ThemeCatalogue {
+    private final ThemeService themeService;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    public Snapshot current() {
+        String version = themeService.catalogueVersion();
+        Snapshot current = snapshot;
+        if (current != null && current.version.equals(version)) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || !current.version.equals(version)) {
+                // The version is read before the themes, so a write racing with the rebuild bumps it again and the next read rebuilds.
+                current = build(version);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot build(String version) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(themeService.findAll());
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream outputStream = new GZIPOutputStream(gzip)) {
+                outputStream.write(json);
+            }
+            return new Snapshot(version, json, gzip.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Snapshot {
+        private final String version;
+        private final byte[] json;
+        private final byte[] gzip;
+
+        public String getETag() {
+            return "themes-" + version;
+        }
+
+        // Each encoding is its own representation, so each gets its own strong validator.
+        public String getGzipETag() {
+            return "themes-" + version + "-gzip";
+        }
+    }
+}
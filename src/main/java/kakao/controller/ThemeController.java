@@ -4,29 +4,54 @@ import kakao.controller.request.ThemeRequest;
 import kakao.controller.response.ThemeResponse;
 import kakao.service.ThemeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletRequest;
 import java.net.URI;
-import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/themes")
 public class ThemeController {
     private final ThemeService themeService;
+    private final IdempotencyStore idempotencyStore;
+    private final ThemeCatalogue themeCatalogue;
 
     @PostMapping
-    public ResponseEntity<ThemeResponse> createTheme(@RequestBody ThemeRequest themeRequest) {
-        Long themeId = themeService.create(themeRequest);
-        String location = "/themes/" + themeId.toString();
+    public ResponseEntity<ThemeResponse> createTheme(@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                                     @RequestBody ThemeRequest themeRequest,
+                                                     HttpServletRequest request) {
+        return idempotencyStore.execute("themes", request.getRemoteAddr(), idempotencyKey, themeRequest, () -> {
+            Long themeId = themeService.create(themeRequest);
+            String location = "/themes/" + themeId.toString();
 
-        return ResponseEntity.created(URI.create(location)).build();
+            return ResponseEntity.created(URI.create(location)).build();
+        });
     }
 
     @GetMapping
-    public ResponseEntity<List<ThemeResponse>> getThemes() {
-        return ResponseEntity.ok(themeService.findAll());
+    public ResponseEntity<byte[]> getThemes(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                            WebRequest webRequest) {
+        ThemeCatalogue.Snapshot snapshot = themeCatalogue.current();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String eTag = gzip ? snapshot.getGzipETag() : snapshot.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return response.body(snapshot.getJson());
     }
 
     @DeleteMapping("/{id}")
@@ -35,4 +60,38 @@ public class ThemeController {
 
         return ResponseEntity.noContent().build();
     }
+
+    // RFC 7231 section 5.3.4: an explicit gzip (or x-gzip) entry takes precedence over "*", and q=0 means not acceptable.
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = Math.max(gzip, qValue(parameters));
+            } else if (name.equals("*")) {
+                any = Math.max(any, qValue(parameters));
+            }
+        }
+        return (gzip >= 0 ? gzip : any) > 0;
+    }
+
+    // A coding without q is fully acceptable; a q that does not parse is treated as a refusal.
+    private static double qValue(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String[] parameter = parameters[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
 }
@@ -0,0 +1,37 @@
+package kakao.controller;
+
+import kakao.config.RateLimitProperties;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// A token bucket in its GCRA form: the whole state is the theoretical arrival time of the next request,
+// so admitting a request is a single compare-and-set and no lock or refill thread is needed.
+class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(RateLimitProperties.Limit limit, long now) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / limit.getRate());
+        this.capacityNanos = emissionIntervalNanos * limit.getBurst();
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    boolean tryAcquire(long now) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            if (next - now > capacityNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // A bucket that has refilled completely behaves exactly like a new one, so it can be dropped.
+    boolean isIdle(long now) {
+        return theoreticalArrival.get() - now <= 0;
+    }
+}
@@ -0,0 +1,51 @@
+package kakao.controller;
+
+import kakao.config.RateLimitProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// One bucket per key, bounded: when full, idle buckets are swept and keys that still do not fit share an overflow bucket.
+class TokenBuckets<K> {
+    private final RateLimitProperties.Limit limit;
+    private final int maxBuckets;
+    private final Map<K, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    TokenBuckets(RateLimitProperties.Limit limit, int maxBuckets) {
+        this.limit = limit;
+        this.maxBuckets = maxBuckets;
+        this.overflow = new TokenBucket(limit, System.nanoTime());
+    }
+
+    boolean tryAcquire(K key, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = bucketFor(key, now);
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    private TokenBucket bucketFor(K key, long now) {
+        if (buckets.size() >= maxBuckets) {
+            sweep(now);
+        }
+        if (buckets.size() >= maxBuckets) {
+            return overflow;
+        }
+        return buckets.computeIfAbsent(key, it -> new TokenBucket(limit, now));
+    }
+
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
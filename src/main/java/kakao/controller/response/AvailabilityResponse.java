@@ -0,0 +1,24 @@
+package kakao.controller.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class AvailabilityResponse {
+    private final LocalDate date;
+    private final List<Slot> slots;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Slot {
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+        private final LocalTime time;
+        private final boolean available;
+    }
+}
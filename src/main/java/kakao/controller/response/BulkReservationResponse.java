@@ -0,0 +1,25 @@
+package kakao.controller.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kakao.exception.ErrorCode;
+import lombok.Getter;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkReservationResponse {
+    private final Long id;
+    private final String code;
+
+    private BulkReservationResponse(Long id, String code) {
+        this.id = id;
+        this.code = code;
+    }
+
+    public static BulkReservationResponse created(Long id) {
+        return new BulkReservationResponse(id, null);
+    }
+
+    public static BulkReservationResponse failed(ErrorCode errorCode) {
+        return new BulkReservationResponse(null, errorCode.name());
+    }
+}
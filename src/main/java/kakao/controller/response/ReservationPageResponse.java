@@ -0,0 +1,13 @@
+package kakao.controller.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class ReservationPageResponse {
+    private final List<ReservationResponse> reservations;
+    private final String nextCursor;
+}
@@ -0,0 +1,10 @@
+package kakao.exception;
+
+import static kakao.exception.ErrorCode.ARCHIVED_DATE_RANGE;
+
+public class ArchivedDateRangeException extends CustomRuntimeException {
+
+    public ArchivedDateRangeException() {
+        super(ARCHIVED_DATE_RANGE);
+    }
+}
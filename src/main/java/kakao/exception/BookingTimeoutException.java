@@ -0,0 +1,10 @@
+package kakao.exception;
+
+import static kakao.exception.ErrorCode.BOOKING_TIMEOUT;
+
+public class BookingTimeoutException extends CustomRuntimeException {
+
+    public BookingTimeoutException() {
+        super(BOOKING_TIMEOUT);
+    }
+}
@@ -1,13 +1,38 @@
 package kakao.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @ControllerAdvice
 public class CustomExceptionHandler {
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+    // Every ErrorCode always renders the same body, so it is serialized once and the bytes are written as they are.
+    private final Map<ErrorCode, ResponseEntity<byte[]>> errorResponses = new EnumMap<>(ErrorCode.class);
+
+    public CustomExceptionHandler(MeterRegistry meterRegistry, ObjectMapper objectMapper) throws JsonProcessingException {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errorCounters.put(errorCode, Counter.builder("roomescape.errors")
+                    .tag("code", errorCode.name())
+                    .register(meterRegistry));
+            errorResponses.put(errorCode, ResponseEntity
+                    .status(errorCode.getHttpStatus())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(objectMapper.writeValueAsBytes(ErrorResponse.toResponseEntity(errorCode).getBody())));
+        }
+    }
+
     @ExceptionHandler(CustomRuntimeException.class)
-    protected ResponseEntity<ErrorResponse> handleCustomException(CustomRuntimeException e) {
-        return ErrorResponse.toResponseEntity(e.getErrorCode());
+    protected ResponseEntity<byte[]> handleCustomException(CustomRuntimeException e) {
+        errorCounters.get(e.getErrorCode()).increment();
+        return errorResponses.get(e.getErrorCode());
     }
 }
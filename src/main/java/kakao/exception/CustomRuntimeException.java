@@ -1,10 +1,14 @@
 package kakao.exception;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-@AllArgsConstructor
 @Getter
 public abstract class CustomRuntimeException extends RuntimeException {
     ErrorCode errorCode;
+
+    // These are expected business outcomes answered from the ErrorCode alone, so no stack trace is captured.
+    protected CustomRuntimeException(ErrorCode errorCode) {
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
+    }
 }
@@ -11,7 +11,17 @@ public enum ErrorCode {
     THEME_NOT_FOUND(HttpStatus.NOT_FOUND, "Theme not found."),
     DUPLICATE_RESERVATION(HttpStatus.CONFLICT, "Duplicated reservation."),
     DUPLICATE_THEME(HttpStatus.CONFLICT, "Duplicated theme."),
-    CORRESPONDING_RESERVATION_EXIST(HttpStatus.CONFLICT, "Corresponding reservation exist. Could not remove theme");
+    CORRESPONDING_RESERVATION_EXIST(HttpStatus.CONFLICT, "Corresponding reservation exist. Could not remove theme"),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "Invalid date range."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "Invalid cursor."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Invalid idempotency key."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "Too many requests."),
+    INVALID_RESERVATION_REQUEST(HttpStatus.BAD_REQUEST, "Invalid reservation request."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency key was already used for a different request."),
+    BOOKING_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "Booking was not confirmed in time."),
+    ARCHIVED_DATE_RANGE(HttpStatus.BAD_REQUEST, "Date range starts before the archive cutoff; archived reservations are only available by id."),
+    RESERVATION_ARCHIVED(HttpStatus.CONFLICT, "Reservation is archived. Could not cancel it"),
+    INVALID_THEME_REQUEST(HttpStatus.BAD_REQUEST, "Invalid theme request.");
 
     private final HttpStatus httpStatus;
     private final String message;
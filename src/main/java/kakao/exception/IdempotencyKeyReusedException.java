@@ -0,0 +1,10 @@
+package kakao.exception;
+
+import static kakao.exception.ErrorCode.IDEMPOTENCY_KEY_REUSED;
+
+public class IdempotencyKeyReusedException extends CustomRuntimeException {
+
+    public IdempotencyKeyReusedException() {
+        super(IDEMPOTENCY_KEY_REUSED);
+    }
+}
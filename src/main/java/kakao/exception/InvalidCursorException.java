@@ -0,0 +1,10 @@
+package kakao.exception;
+
+import static kakao.exception.ErrorCode.INVALID_CURSOR;
+
+public class InvalidCursorException extends CustomRuntimeException {
+
+    public InvalidCursorException() {
+        super(INVALID_CURSOR);
+    }
+}
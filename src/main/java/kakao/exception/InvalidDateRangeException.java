@@ -0,0 +1,10 @@
+package kakao.exception;
+
+import static kakao.exception.ErrorCode.INVALID_DATE_RANGE;
+
+public class InvalidDateRangeException extends CustomRuntimeException {
+
+    public InvalidDateRangeException() {
+        super(INVALID_DATE_RANGE);
+    }
+}
@@ -0,0 +1,10 @@
+package kakao.exception;
+
+import static kakao.exception.ErrorCode.INVALID_IDEMPOTENCY_KEY;
+
+public class InvalidIdempotencyKeyException extends CustomRuntimeException {
+
+    public InvalidIdempotencyKeyException() {
+        super(INVALID_IDEMPOTENCY_KEY);
+    }
+}
@@ -0,0 +1,10 @@
+package kakao.exception;
+
+import static kakao.exception.ErrorCode.INVALID_RESERVATION_REQUEST;
+
+public class InvalidReservationRequestException extends CustomRuntimeException {
+
+    public InvalidReservationRequestException() {
+        super(INVALID_RESERVATION_REQUEST);
+    }
+}
@@ -0,0 +1,10 @@
+package kakao.exception;
+
+import static kakao.exception.ErrorCode.INVALID_THEME_REQUEST;
+
+public class InvalidThemeRequestException extends CustomRuntimeException {
+
+    public InvalidThemeRequestException() {
+        super(INVALID_THEME_REQUEST);
+    }
+}
@@ -0,0 +1,10 @@
+package kakao.exception;
+
+import static kakao.exception.ErrorCode.RESERVATION_ARCHIVED;
+
+public class ReservationArchivedException extends CustomRuntimeException {
+
+    public ReservationArchivedException() {
+        super(RESERVATION_ARCHIVED);
+    }
+}
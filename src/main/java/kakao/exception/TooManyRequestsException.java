@@ -0,0 +1,10 @@
+package kakao.exception;
+
+import static kakao.exception.ErrorCode.TOO_MANY_REQUESTS;
+
+public class TooManyRequestsException extends CustomRuntimeException {
+
+    public TooManyRequestsException() {
+        super(TOO_MANY_REQUESTS);
+    }
+}
@@ -23,6 +23,9 @@ public class Reservation {
         public static final String NAME = "name";
         public static final String THEME_ID = "theme_id";
 
+        // Column length in schema.sql; stores without the schema enforce it themselves.
+        public static final int NAME_LENGTH = 20;
+
         private Column() {}
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package kakao.model;
+
+import kakao.exception.InvalidCursorException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+@Getter
+@RequiredArgsConstructor
+public class ReservationCursor {
+    private static final String DELIMITER = "_";
+
+    private final LocalDate date;
+    private final LocalTime time;
+    private final Long id;
+
+    public String encode() {
+        String raw = date + DELIMITER + time + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReservationCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(DELIMITER);
+            if (parts.length != 3) {
+                throw new InvalidCursorException();
+            }
+            return new ReservationCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package kakao.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class ReservationSlot {
+    private final Long themeId;
+    private final LocalDate date;
+    private final LocalTime time;
+}
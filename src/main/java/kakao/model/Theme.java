@@ -17,6 +17,10 @@ public class Theme {
         public static final String DESC = "desc";
         public static final String PRICE = "price";
 
+        // Column lengths in schema.sql; stores without the schema enforce them themselves.
+        public static final int NAME_LENGTH = 20;
+        public static final int DESC_LENGTH = 255;
+
         private Column() {}
     }
 }
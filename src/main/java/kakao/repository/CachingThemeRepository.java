@@ -0,0 +1,245 @@
+package kakao.repository;
+
+import kakao.controller.request.ThemeRequest;
+import kakao.model.Theme;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+@Primary
+@Repository
+@ConditionalOnProperty(name = "roomescape.theme-cache.enabled", havingValue = "true")
+public class CachingThemeRepository implements ThemeRepository {
+    private final ThemeRepository delegate;
+    private final int maxSize;
+    // Reads only look at the published snapshot; fills and invalidations publish a modified copy with a CAS.
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(0));
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingThemeRepository(JdbcTemplateThemeRepository delegate, MeterRegistry meterRegistry,
+                                  @Value("${roomescape.theme-cache.max-size:1000}") int maxSize) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        FunctionCounter.builder("roomescape.theme-cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("roomescape.theme-cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("roomescape.theme-cache.evictions", evictions, LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Long create(ThemeRequest themeRequest) {
+        Long id = delegate.create(themeRequest);
+        invalidate(id, themeRequest.getName());
+        return id;
+    }
+
+    @Override
+    public Optional<Theme> findById(Long id) {
+        Snapshot current = snapshot.get();
+        Theme cached = current.themesById.get(id);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+
+        Optional<Theme> theme = delegate.findById(id);
+        theme.ifPresent(it -> fill(current.generation, next -> next.put(it, maxSize)));
+        return theme;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        Snapshot current = snapshot.get();
+        if (current.existingIds.contains(id)) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+
+        boolean exists = delegate.existsById(id);
+        if (exists) {
+            fill(current.generation, next -> next.putExistingId(id, maxSize));
+        }
+        return exists;
+    }
+
+    @Override
+    public Optional<Theme> findByName(String name) {
+        Snapshot current = snapshot.get();
+        Theme cached = current.themesByName.get(name);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+
+        Optional<Theme> theme = delegate.findByName(name);
+        theme.ifPresent(it -> fill(current.generation, next -> next.put(it, maxSize)));
+        return theme;
+    }
+
+    // The listing is served from ThemeCatalogue's own snapshot, so it is not worth a copy here.
+    @Override
+    public List<Theme> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Set<Long> findIdsByIdIn(Collection<Long> ids) {
+        Snapshot current = snapshot.get();
+        Set<Long> foundIds = new HashSet<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            if (current.existingIds.contains(id)) {
+                foundIds.add(id);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        hits.add(foundIds.size());
+        if (missingIds.isEmpty()) {
+            return foundIds;
+        }
+        misses.add(missingIds.size());
+
+        Set<Long> loadedIds = delegate.findIdsByIdIn(missingIds);
+        if (!loadedIds.isEmpty()) {
+            fill(current.generation, next -> {
+                int evicted = 0;
+                for (Long id : loadedIds) {
+                    evicted += next.putExistingId(id, maxSize);
+                }
+                return evicted;
+            });
+        }
+        foundIds.addAll(loadedIds);
+        return foundIds;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            invalidate(id, null);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    // A load that started before an invalidation may have read what it removed, so it is dropped rather than cached.
+    private void fill(long loadGeneration, ToIntFunction<Snapshot> change) {
+        while (true) {
+            Snapshot current = snapshot.get();
+            if (current.generation != loadGeneration) {
+                return;
+            }
+            Snapshot next = current.copy(loadGeneration);
+            int evicted = change.applyAsInt(next);
+            if (snapshot.compareAndSet(current, next)) {
+                evictions.add(evicted);
+                return;
+            }
+        }
+    }
+
+    private void invalidate(Long id, String name) {
+        while (true) {
+            Snapshot current = snapshot.get();
+            Snapshot next = current.copy(current.generation + 1);
+            next.remove(id, name);
+            if (snapshot.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    // Only modified before it is published. Entries are evicted oldest-first, since reads cannot record access order.
+    private static class Snapshot {
+        private final long generation;
+        private final Map<Long, Theme> themesById = new LinkedHashMap<>();
+        private final Map<String, Theme> themesByName = new LinkedHashMap<>();
+        private final Set<Long> existingIds = new LinkedHashSet<>();
+
+        private Snapshot(long generation) {
+            this.generation = generation;
+        }
+
+        private Snapshot copy(long generation) {
+            Snapshot copy = new Snapshot(generation);
+            copy.themesById.putAll(themesById);
+            copy.themesByName.putAll(themesByName);
+            copy.existingIds.addAll(existingIds);
+            return copy;
+        }
+
+        private int put(Theme theme, int maxSize) {
+            themesById.put(theme.getId(), theme);
+            themesByName.put(theme.getName(), theme);
+            return evictOldest(themesById.keySet(), maxSize)
+                    + evictOldest(themesByName.keySet(), maxSize)
+                    + putExistingId(theme.getId(), maxSize);
+        }
+
+        private int putExistingId(Long id, int maxSize) {
+            existingIds.add(id);
+            return evictOldest(existingIds, maxSize);
+        }
+
+        private void remove(Long id, String name) {
+            themesById.remove(id);
+            themesByName.values().removeIf(theme -> Objects.equals(theme.getId(), id));
+            if (name != null) {
+                themesByName.remove(name);
+            }
+            existingIds.remove(id);
+        }
+
+        private static int evictOldest(Set<?> keys, int maxSize) {
+            int evicted = 0;
+            Iterator<?> iterator = keys.iterator();
+            while (keys.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+    }
+}
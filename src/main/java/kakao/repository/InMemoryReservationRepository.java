@@ -0,0 +1,339 @@
+package kakao.repository;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.response.ReservationResponse;
+import kakao.exception.CorrespondingReservationExistException;
+import kakao.exception.CustomRuntimeException;
+import kakao.exception.DuplicatedReservationException;
+import kakao.exception.InvalidReservationRequestException;
+import kakao.exception.ReservationNotFoundException;
+import kakao.exception.ThemeNotFoundException;
+import kakao.model.DateRange;
+import kakao.model.Reservation;
+import kakao.model.ReservationCursor;
+import kakao.model.ReservationSlot;
+import kakao.model.Theme;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Repository
+@ConditionalOnProperty(name = "roomescape.reservation-store", havingValue = "memory")
+public class InMemoryReservationRepository implements ReservationRepository {
+    // A slot is its (date, time); the theme is the map the reservation is filed under.
+    private static final Comparator<Reservation> SLOT_ORDER = Comparator.comparing(Reservation::getDate)
+            .thenComparing(Reservation::getTime);
+    private static final NavigableMap<Reservation, Reservation> NO_SLOTS =
+            Collections.unmodifiableNavigableMap(new ConcurrentSkipListMap<>(SLOT_ORDER));
+
+    private final InMemoryThemeRepository themeRepository;
+    private final ReservationJournal journal;
+    private final AtomicLong sequence = new AtomicLong();
+    // Keyed by the Reservation's own id, so the map adds no box of its own.
+    private final Map<Long, Reservation> reservations = new ConcurrentHashMap<>();
+    // Per theme, the reservations ordered by slot, each mapped to itself. Claiming a slot is a single putIfAbsent, so
+    // no lock is shared across themes, and neither the key nor the value allocates anything beyond the reservation.
+    private final Map<Long, ConcurrentNavigableMap<Reservation, Reservation>> slotsByTheme = new ConcurrentHashMap<>();
+    // Themes whose delete is in progress; each entry lives only as long as deleteThemeIfUnreserved.
+    private final Set<Long> deletedThemes = ConcurrentHashMap.newKeySet();
+
+    // The theme store shares this journal, so both are recovered and snapshotted here in one pass.
+    public InMemoryReservationRepository(InMemoryThemeRepository themeRepository, Optional<ReservationJournal> journal) {
+        this.themeRepository = themeRepository;
+        this.journal = journal.orElse(null);
+        if (this.journal != null) {
+            this.journal.recover(new Replay());
+            this.journal.start(() -> new ReservationJournal.State(sequence.get(), themeRepository.sequence(),
+                    themeRepository.snapshotThemes(), new ArrayList<>(reservations.values())));
+        }
+    }
+
+    @Override
+    public Long create(ReservationRequest reservationRequest) {
+        return mutate(() -> {
+            Reservation reservation = claim(reservationRequest);
+            journalCreates(List.of(reservation));
+            return reservation.getId();
+        });
+    }
+
+    // All or nothing, like the JDBC batch: on the first failure the reservations claimed so far are rolled back.
+    @Override
+    public List<Long> createAll(List<ReservationRequest> reservationRequests) {
+        return mutate(() -> {
+            List<Reservation> claimed = new ArrayList<>(reservationRequests.size());
+            try {
+                for (ReservationRequest reservationRequest : reservationRequests) {
+                    claimed.add(claim(reservationRequest));
+                }
+            } catch (CustomRuntimeException e) {
+                claimed.forEach(reservation -> forget(reservation.getId()));
+                throw new DuplicateKeyException("Batch rolled back: " + e.getErrorCode().name(), e);
+            }
+
+            journalCreates(claimed);
+            return claimed.stream()
+                    .map(Reservation::getId)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    public Optional<Reservation> findById(Long id) {
+        return Optional.ofNullable(reservations.get(id));
+    }
+
+    @Override
+    public Optional<ReservationResponse> findWithThemeById(Long id) {
+        return findById(id).flatMap(reservation -> themeRepository.findById(reservation.getThemeId())
+                .map(theme -> new ReservationResponse(reservation, theme)));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return reservations.containsKey(id);
+    }
+
+    @Override
+    public Optional<Reservation> findByDateAndTimeAndThemeId(LocalDate date, LocalTime time, Long themeId) {
+        return Optional.ofNullable(existingSlotsOf(themeId).get(slotProbe(date, time)))
+                .map(reservation -> reservations.get(reservation.getId()));
+    }
+
+    @Override
+    public boolean existsByThemeId(Long themeId) {
+        return !existingSlotsOf(themeId).isEmpty();
+    }
+
+    // A slot holds at most one reservation, so (date, time) alone orders the keyset; the cursor id is not needed.
+    @Override
+    public List<ReservationResponse> findPageByThemeId(Long themeId, DateRange dateRange, ReservationCursor after, int limit) {
+        NavigableMap<Reservation, Reservation> slots = slotsIn(themeId, dateRange);
+        if (after != null) {
+            slots = slots.tailMap(slotProbe(after.getDate(), after.getTime()), false);
+        }
+
+        List<ReservationResponse> page = new ArrayList<>(limit);
+        for (Reservation reservation : slots.values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            findWithThemeById(reservation.getId()).ifPresent(page::add);
+        }
+        return page;
+    }
+
+    @Override
+    public void streamByThemeId(Long themeId, DateRange dateRange, Consumer<ReservationResponse> consumer) {
+        for (Reservation reservation : slotsIn(themeId, dateRange).values()) {
+            findWithThemeById(reservation.getId()).ifPresent(consumer);
+        }
+    }
+
+    @Override
+    public Set<ReservationSlot> findSlotsIn(Collection<ReservationSlot> slots) {
+        return slots.stream()
+                .filter(slot -> existingSlotsOf(slot.getThemeId()).containsKey(slotProbe(slot.getDate(), slot.getTime())))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Override
+    public Optional<List<ReservationSlot>> findSlotsByThemeId(Long themeId, DateRange dateRange) {
+        if (!themeRepository.existsById(themeId)) {
+            return Optional.empty();
+        }
+        return Optional.of(slotsIn(themeId, dateRange).keySet().stream()
+                .map(reservation -> new ReservationSlot(themeId, reservation.getDate(), reservation.getTime()))
+                .collect(Collectors.toList()));
+    }
+
+    // The slot stays claimed until the delete is durable, so a failed delete can put the reservation back
+    // without racing a booking that took the slot in the meantime.
+    @Override
+    public void deleteById(Long id) {
+        mutate(() -> {
+            Reservation reservation = reservations.remove(id);
+            if (reservation == null) {
+                throw new ReservationNotFoundException();
+            }
+
+            if (journal != null) {
+                try {
+                    journal.appendDelete(id).join();
+                } catch (RuntimeException e) {
+                    reservations.put(id, reservation);
+                    throw e;
+                }
+            }
+            releaseSlot(reservation);
+            return null;
+        });
+    }
+
+    // The tombstone goes up before the delete looks for slots and is checked by claim after the slot is taken, so
+    // either the delete sees that slot or the claim sees the tombstone; a theme never loses its last check to a booking.
+    // Once themeDelete has returned the theme is gone for good, and claim's theme check takes over from the tombstone.
+    // The index goes last: a claim that recreates it after this is the one to drop it again.
+    @Override
+    public void deleteThemeIfUnreserved(Long themeId, Runnable themeDelete) {
+        deletedThemes.add(themeId);
+        try {
+            if (existsByThemeId(themeId)) {
+                throw new CorrespondingReservationExistException();
+            }
+            themeDelete.run();
+        } finally {
+            deletedThemes.remove(themeId);
+        }
+        slotsByTheme.remove(themeId);
+    }
+
+    private Reservation claim(ReservationRequest reservationRequest) {
+        String name = reservationRequest.getName();
+        if (name != null && name.codePointCount(0, name.length()) > Reservation.Column.NAME_LENGTH) {
+            throw new InvalidReservationRequestException();
+        }
+        Long themeId = reservationRequest.getThemeId();
+        if (!themeRepository.existsById(themeId)) {
+            throw new ThemeNotFoundException();
+        }
+
+        Reservation reservation = new Reservation(sequence.incrementAndGet(), reservationRequest.getDate(),
+                reservationRequest.getTime(), reservationRequest.getName(), themeId);
+        ConcurrentNavigableMap<Reservation, Reservation> slots = slotsOf(themeId);
+        if (slots.putIfAbsent(reservation, reservation) != null) {
+            throw new DuplicatedReservationException();
+        }
+        if (deletedThemes.contains(themeId) || !themeRepository.existsById(themeId)) {
+            slots.remove(reservation, reservation);
+            if (!deletedThemes.contains(themeId) && !themeRepository.existsById(themeId)) {
+                // The delete has finished, so this index was recreated by a claim that raced it and only holds losers.
+                slotsByTheme.remove(themeId, slots);
+            }
+            throw new ThemeNotFoundException();
+        }
+        reservations.put(reservation.getId(), reservation);
+        return reservation;
+    }
+
+    // Changes are applied in memory first and only acknowledged once the journal has forced them to disk.
+    // Anything failing on the way, including an append refused before it was queued, takes them back out.
+    private void journalCreates(List<Reservation> created) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            CompletableFuture<?>[] writes = created.stream()
+                    .map(journal::appendCreate)
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(writes).join();
+        } catch (RuntimeException e) {
+            created.forEach(reservation -> forget(reservation.getId()));
+            throw e;
+        }
+    }
+
+    // Only for replay, which runs alone and in journal order; idempotent, so a change may also be part of the snapshot.
+    private void restore(Reservation reservation) {
+        reservations.put(reservation.getId(), reservation);
+        slotsOf(reservation.getThemeId()).put(reservation, reservation);
+        sequence.accumulateAndGet(reservation.getId(), Math::max);
+    }
+
+    private Reservation forget(long id) {
+        Reservation reservation = reservations.remove(id);
+        if (reservation != null) {
+            releaseSlot(reservation);
+        }
+        return reservation;
+    }
+
+    private void releaseSlot(Reservation reservation) {
+        // Reservation does not override equals, so only this reservation's own entry is removed.
+        ConcurrentNavigableMap<Reservation, Reservation> slots = slotsByTheme.get(reservation.getThemeId());
+        if (slots != null) {
+            slots.remove(reservation, reservation);
+        }
+    }
+
+    private <T> T mutate(Supplier<T> change) {
+        return journal == null ? change.get() : journal.mutate(change);
+    }
+
+    private ConcurrentNavigableMap<Reservation, Reservation> slotsOf(Long themeId) {
+        return slotsByTheme.computeIfAbsent(themeId, it -> new ConcurrentSkipListMap<>(SLOT_ORDER));
+    }
+
+    // Read paths must not create an index for every theme id they are asked about.
+    private NavigableMap<Reservation, Reservation> existingSlotsOf(Long themeId) {
+        NavigableMap<Reservation, Reservation> slots = slotsByTheme.get(themeId);
+        return slots == null ? NO_SLOTS : slots;
+    }
+
+    private NavigableMap<Reservation, Reservation> slotsIn(Long themeId, DateRange dateRange) {
+        return existingSlotsOf(themeId).subMap(slotProbe(dateRange.getFrom(), LocalTime.MIDNIGHT), true,
+                slotProbe(dateRange.getTo().plusDays(1), LocalTime.MIDNIGHT), false);
+    }
+
+    int themesBeingDeleted() {
+        return deletedThemes.size();
+    }
+
+    boolean hasSlotIndex(Long themeId) {
+        return slotsByTheme.containsKey(themeId);
+    }
+
+    private class Replay implements ReservationJournal.Replay {
+        @Override
+        public void sequencesRecovered(long reservationSequence, long themeSequence) {
+            sequence.accumulateAndGet(reservationSequence, Math::max);
+            themeRepository.recoverSequence(themeSequence);
+        }
+
+        @Override
+        public void themeCreated(Theme theme) {
+            themeRepository.restore(theme);
+        }
+
+        @Override
+        public void themeDeleted(long id) {
+            themeRepository.forget(id);
+        }
+
+        @Override
+        public void reservationCreated(Reservation reservation) {
+            restore(reservation);
+        }
+
+        @Override
+        public void reservationDeleted(long id) {
+            forget(id);
+        }
+    }
+
+    // A probe for looking slots up; SLOT_ORDER only reads its date and time.
+    private static Reservation slotProbe(LocalDate date, LocalTime time) {
+        return new Reservation(null, date, time, null, null);
+    }
+}
@@ -0,0 +1,155 @@
+package kakao.repository;
+
+import kakao.controller.request.ThemeRequest;
+import kakao.exception.DuplicatedThemeException;
+import kakao.exception.InvalidThemeRequestException;
+import kakao.exception.ThemeNotFoundException;
+import kakao.model.Theme;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Recovered and journaled together with the reservations by InMemoryReservationRepository, so the memory store
+// needs no datasource at all.
+@Repository
+@ConditionalOnProperty(name = "roomescape.reservation-store", havingValue = "memory")
+public class InMemoryThemeRepository implements ThemeRepository {
+    private final ReservationJournal journal;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Theme> themes = new ConcurrentHashMap<>();
+    // Name -> id; claiming a name is a single putIfAbsent, like the unique key on theme.name.
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+
+    public InMemoryThemeRepository(Optional<ReservationJournal> journal) {
+        this.journal = journal.orElse(null);
+    }
+
+    @Override
+    public Long create(ThemeRequest themeRequest) {
+        checkFitsSchema(themeRequest);
+        return mutate(() -> {
+            Long id = sequence.incrementAndGet();
+            if (idsByName.putIfAbsent(themeRequest.getName(), id) != null) {
+                throw new DuplicatedThemeException();
+            }
+            Theme theme = new Theme(id, themeRequest.getName(), themeRequest.getDesc(), themeRequest.getPrice());
+            themes.put(id, theme);
+
+            if (journal != null) {
+                try {
+                    journal.appendThemeCreate(theme).join();
+                } catch (RuntimeException e) {
+                    forget(id);
+                    throw e;
+                }
+            }
+            return id;
+        });
+    }
+
+    @Override
+    public Optional<Theme> findById(Long id) {
+        return Optional.ofNullable(themes.get(id));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return themes.containsKey(id);
+    }
+
+    @Override
+    public Optional<Theme> findByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(idsByName.get(name)).map(themes::get);
+    }
+
+    @Override
+    public List<Theme> findAll() {
+        return themes.values().stream()
+                .sorted(Comparator.comparing(Theme::getId))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<Long> findIdsByIdIn(Collection<Long> ids) {
+        return ids.stream()
+                .filter(themes::containsKey)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        mutate(() -> {
+            Theme theme = forget(id);
+            if (theme == null) {
+                throw new ThemeNotFoundException();
+            }
+
+            if (journal != null) {
+                try {
+                    journal.appendThemeDelete(id).join();
+                } catch (RuntimeException e) {
+                    restore(theme);
+                    throw e;
+                }
+            }
+            return null;
+        });
+    }
+
+    // Idempotent, so journal replay may apply a change that is also part of the snapshot.
+    void restore(Theme theme) {
+        themes.put(theme.getId(), theme);
+        idsByName.put(theme.getName(), theme.getId());
+        sequence.accumulateAndGet(theme.getId(), Math::max);
+    }
+
+    Theme forget(long id) {
+        Theme theme = themes.remove(id);
+        if (theme != null) {
+            idsByName.remove(theme.getName(), id);
+        }
+        return theme;
+    }
+
+    void recoverSequence(long recovered) {
+        sequence.accumulateAndGet(recovered, Math::max);
+    }
+
+    long sequence() {
+        return sequence.get();
+    }
+
+    List<Theme> snapshotThemes() {
+        return new ArrayList<>(themes.values());
+    }
+
+    // What the theme table's columns would refuse; the name also keys idsByName and the price is journaled as an int.
+    private static void checkFitsSchema(ThemeRequest themeRequest) {
+        String name = themeRequest.getName();
+        String desc = themeRequest.getDesc();
+        if (name == null || themeRequest.getPrice() == null
+                || name.codePointCount(0, name.length()) > Theme.Column.NAME_LENGTH
+                || desc != null && desc.codePointCount(0, desc.length()) > Theme.Column.DESC_LENGTH) {
+            throw new InvalidThemeRequestException();
+        }
+    }
+
+    private <T> T mutate(Supplier<T> change) {
+        return journal == null ? change.get() : journal.mutate(change);
+    }
+}
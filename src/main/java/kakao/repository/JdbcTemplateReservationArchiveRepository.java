@@ -0,0 +1,59 @@
+package kakao.repository;
+
+import io.micrometer.core.annotation.Timed;
+import kakao.controller.response.ReservationResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@ConditionalOnProperty(name = "roomescape.archive.enabled", havingValue = "true")
+public class JdbcTemplateReservationArchiveRepository implements ReservationArchiveRepository {
+    private static final String SELECT_WITH_THEME_SQL = "SELECT r.id, r.date, r.time, r.name, r.theme_id, t.name, t.desc, t.price "
+            + "FROM reservation_archive r JOIN theme t ON t.id = r.theme_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTemplateReservationArchiveRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Copies one chunk of past reservations and deletes them from the live table in the same short transaction,
+    // so locks are held on at most chunkSize rows at a time.
+    @Override
+    @Timed("roomescape.repository")
+    @Transactional
+    public int archiveChunkBefore(LocalDate cutoff, int chunkSize) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM reservation WHERE date < ? ORDER BY date, id LIMIT ?",
+                Long.class, cutoff, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] arguments = ids.toArray();
+        jdbcTemplate.update("INSERT INTO reservation_archive (id, date, time, name, theme_id) "
+                + "SELECT id, date, time, name, theme_id FROM reservation WHERE id IN (" + placeholders + ")", arguments);
+        jdbcTemplate.update("DELETE FROM reservation WHERE id IN (" + placeholders + ")", arguments);
+        return ids.size();
+    }
+
+    @Override
+    @Timed("roomescape.repository")
+    public Optional<ReservationResponse> findWithThemeById(Long id) {
+        return jdbcTemplate.query(SELECT_WITH_THEME_SQL + " WHERE r.id=?",
+                JdbcTemplateReservationRepository.RESERVATION_WITH_THEME_ROW_MAPPER, id).stream().findAny();
+    }
+
+    @Override
+    @Timed("roomescape.repository")
+    public boolean existsById(Long id) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM reservation_archive WHERE id=? LIMIT 1", Integer.class, id).isEmpty();
+    }
+}
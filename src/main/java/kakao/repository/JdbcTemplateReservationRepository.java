@@ -1,25 +1,75 @@
 package kakao.repository;
 
+import kakao.controller.response.ReservationResponse;
+import kakao.exception.DuplicatedReservationException;
+import kakao.exception.InvalidReservationRequestException;
 import kakao.exception.ReservationNotFoundException;
+import kakao.exception.ThemeNotFoundException;
+import kakao.model.DateRange;
 import kakao.model.Reservation;
+import kakao.model.ReservationCursor;
+import kakao.model.ReservationSlot;
+import kakao.model.Theme;
 import kakao.controller.request.ReservationRequest;
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.Time;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
+@ConditionalOnProperty(name = "roomescape.reservation-store", havingValue = "jdbc", matchIfMissing = true)
 public class JdbcTemplateReservationRepository implements ReservationRepository {
+    // Inserts only when the theme exists; the slot itself is guarded by the uk_reservation_slot constraint.
+    private static final String INSERT_SQL = "INSERT INTO reservation (date, time, name, theme_id) SELECT ?, ?, ?, id FROM theme WHERE id=?";
+    private static final String BATCH_INSERT_SQL = "INSERT INTO reservation (date, time, name, theme_id) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT id, date, time, name, theme_id FROM reservation";
+    private static final String SELECT_WITH_THEME_SQL = "SELECT r.id, r.date, r.time, r.name, r.theme_id, t.name, t.desc, t.price "
+            + "FROM reservation r JOIN theme t ON t.id = r.theme_id";
+    private static final String THEME_AND_DATE_RANGE_CONDITION = " WHERE r.theme_id=? AND r.date BETWEEN ? AND ?";
+    // The row-value comparison is only a filter to H2, so "date >= cursor date" is repeated for the index seek to start at the cursor.
+    private static final String KEYSET_CONDITION = " AND r.date >= ? AND (r.date, r.time, r.id) > (?, ?, ?)";
+    private static final String KEYSET_ORDER = " ORDER BY r.date, r.time, r.id";
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    private static final RowMapper<Reservation> RESERVATION_ROW_MAPPER = (resultSet, rowNumber) -> new Reservation(
+            resultSet.getLong(1),
+            resultSet.getDate(2).toLocalDate(),
+            resultSet.getTime(3).toLocalTime(),
+            resultSet.getString(4),
+            resultSet.getLong(5));
+    static final RowMapper<ReservationResponse> RESERVATION_WITH_THEME_ROW_MAPPER = (resultSet, rowNumber) -> new ReservationResponse(
+            RESERVATION_ROW_MAPPER.mapRow(resultSet, rowNumber),
+            new Theme(resultSet.getLong(5), resultSet.getString(6), resultSet.getString(7), resultSet.getInt(8)));
+    private static final RowMapper<ReservationSlot> SLOT_ROW_MAPPER = (resultSet, rowNumber) -> new ReservationSlot(
+            resultSet.getLong(1),
+            resultSet.getDate(2).toLocalDate(),
+            resultSet.getTime(3).toLocalTime());
+
     private final JdbcTemplate jdbcTemplate;
 
     public JdbcTemplateReservationRepository(JdbcTemplate jdbcTemplate) {
@@ -27,55 +77,177 @@ public class JdbcTemplateReservationRepository implements ReservationRepository
     }
 
     @Override
+    @Timed("roomescape.repository")
     public Long create(ReservationRequest reservationRequest) {
-        SimpleJdbcInsert jdbcInsert = new SimpleJdbcInsert(jdbcTemplate)
-                .withTableName(TABLE_NAME)
-                .usingGeneratedKeyColumns("id");
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int insertedRows;
+        try {
+            insertedRows = jdbcTemplate.update(connection -> {
+                PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL, new String[]{Reservation.Column.ID});
+                preparedStatement.setDate(1, Date.valueOf(reservationRequest.getDate()));
+                preparedStatement.setTime(2, Time.valueOf(reservationRequest.getTime()));
+                preparedStatement.setString(3, reservationRequest.getName());
+                preparedStatement.setLong(4, reservationRequest.getThemeId());
+                return preparedStatement;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            throw new DuplicatedReservationException();
+        } catch (DataIntegrityViolationException e) {
+            // Anything the schema rejects beyond the slot constraint, such as an over-long name.
+            throw new InvalidReservationRequestException();
+        }
+
+        if (insertedRows == 0) {
+            throw new ThemeNotFoundException();
+        }
+        return keyHolder.getKey().longValue();
+    }
 
-        SqlParameterSource parameterSource = new MapSqlParameterSource()
-                .addValue(Reservation.Column.DATE, Date.valueOf(reservationRequest.getDate()))
-                .addValue(Reservation.Column.TIME, Time.valueOf(reservationRequest.getTime()))
-                .addValue(Reservation.Column.NAME, reservationRequest.getName())
-                .addValue(Reservation.Column.THEME_ID, reservationRequest.getThemeId());
+    @Override
+    @Timed("roomescape.repository")
+    @Transactional
+    public List<Long> createAll(List<ReservationRequest> reservationRequests) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(BATCH_INSERT_SQL, new String[]{Reservation.Column.ID})) {
+                for (ReservationRequest reservationRequest : reservationRequests) {
+                    preparedStatement.setDate(1, Date.valueOf(reservationRequest.getDate()));
+                    preparedStatement.setTime(2, Time.valueOf(reservationRequest.getTime()));
+                    preparedStatement.setString(3, reservationRequest.getName());
+                    preparedStatement.setLong(4, reservationRequest.getThemeId());
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
 
-        return jdbcInsert.executeAndReturnKey(parameterSource).longValue();
+                List<Long> ids = new ArrayList<>(reservationRequests.size());
+                try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        ids.add(generatedKeys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
     }
 
     @Override
+    @Timed("roomescape.repository")
     public Optional<Reservation> findById(Long id) {
-        return jdbcTemplate.query("SELECT * FROM reservation WHERE id=?", reservationResponseRowMapper(), id).stream().findAny();
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id=?", RESERVATION_ROW_MAPPER, id).stream().findAny();
+    }
+
+    @Override
+    @Timed("roomescape.repository")
+    public Optional<ReservationResponse> findWithThemeById(Long id) {
+        return jdbcTemplate.query(SELECT_WITH_THEME_SQL + " WHERE r.id=?", RESERVATION_WITH_THEME_ROW_MAPPER, id).stream().findAny();
+    }
+
+    @Override
+    @Timed("roomescape.repository")
+    public boolean existsById(Long id) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM reservation WHERE id=? LIMIT 1", Integer.class, id).isEmpty();
     }
 
     @Override
+    @Timed("roomescape.repository")
     public Optional<Reservation> findByDateAndTimeAndThemeId(LocalDate date, LocalTime time, Long themeId) {
         return jdbcTemplate
-                .query("SELECT * FROM reservation WHERE date=? AND time=? AND theme_id=?", reservationResponseRowMapper(), date, time, themeId)
+                .query(SELECT_SQL + " WHERE date=? AND time=? AND theme_id=?", RESERVATION_ROW_MAPPER, date, time, themeId)
                 .stream().findAny();
     }
 
     @Override
-    public List<Reservation> findByThemeId(Long themeId) {
-        return jdbcTemplate.query("SELECT * FROM reservation WHERE theme_id=?", reservationResponseRowMapper(), themeId);
+    @Timed("roomescape.repository")
+    public boolean existsByThemeId(Long themeId) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM reservation WHERE theme_id=? LIMIT 1", Integer.class, themeId).isEmpty();
     }
 
     @Override
-    public void deleteById(Long id) {
-        if (findById(id).isPresent()) {
-            jdbcTemplate.update("DELETE FROM reservation WHERE id=?", id);
-            return;
+    @Timed("roomescape.repository")
+    public List<ReservationResponse> findPageByThemeId(Long themeId, DateRange dateRange, ReservationCursor after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(SELECT_WITH_THEME_SQL + THEME_AND_DATE_RANGE_CONDITION + KEYSET_ORDER + " LIMIT ?",
+                    RESERVATION_WITH_THEME_ROW_MAPPER, themeId, dateRange.getFrom(), dateRange.getTo(), limit);
+        }
+        return jdbcTemplate.query(SELECT_WITH_THEME_SQL + THEME_AND_DATE_RANGE_CONDITION + KEYSET_CONDITION + KEYSET_ORDER + " LIMIT ?",
+                RESERVATION_WITH_THEME_ROW_MAPPER, themeId, dateRange.getFrom(), dateRange.getTo(), after.getDate(), after.getDate(), after.getTime(), after.getId(), limit);
+    }
+
+    @Override
+    @Timed("roomescape.repository")
+    public void streamByThemeId(Long themeId, DateRange dateRange, Consumer<ReservationResponse> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement preparedStatement = connection.prepareStatement(SELECT_WITH_THEME_SQL + THEME_AND_DATE_RANGE_CONDITION + KEYSET_ORDER);
+            preparedStatement.setFetchSize(EXPORT_FETCH_SIZE);
+            preparedStatement.setLong(1, themeId);
+            preparedStatement.setDate(2, Date.valueOf(dateRange.getFrom()));
+            preparedStatement.setDate(3, Date.valueOf(dateRange.getTo()));
+            return preparedStatement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(RESERVATION_WITH_THEME_ROW_MAPPER.mapRow(resultSet, resultSet.getRow())));
+    }
+
+    @Override
+    @Timed("roomescape.repository")
+    public Set<ReservationSlot> findSlotsIn(Collection<ReservationSlot> slots) {
+        if (slots.isEmpty()) {
+            return Collections.emptySet();
+        }
+        // A row-value IN list cannot seek uk_reservation_slot, so the query seeks each theme over the covered dates
+        // and the few extra slots it returns are dropped here.
+        Set<Long> themeIds = new HashSet<>();
+        LocalDate from = LocalDate.MAX;
+        LocalDate to = LocalDate.MIN;
+        for (ReservationSlot slot : slots) {
+            themeIds.add(slot.getThemeId());
+            from = slot.getDate().isBefore(from) ? slot.getDate() : from;
+            to = slot.getDate().isAfter(to) ? slot.getDate() : to;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(themeIds.size(), "?"));
+        List<Object> arguments = new ArrayList<>(themeIds);
+        arguments.add(from);
+        arguments.add(to);
+
+        Set<ReservationSlot> requestedSlots = new HashSet<>(slots);
+        Set<ReservationSlot> bookedSlots = new HashSet<>();
+        jdbcTemplate.query("SELECT theme_id, date, time FROM reservation WHERE theme_id IN (" + placeholders + ") AND date BETWEEN ? AND ?",
+                (RowCallbackHandler) resultSet -> {
+                    ReservationSlot slot = SLOT_ROW_MAPPER.mapRow(resultSet, resultSet.getRow());
+                    if (requestedSlots.contains(slot)) {
+                        bookedSlots.add(slot);
+                    }
+                }, arguments.toArray());
+        return bookedSlots;
+    }
+
+    @Override
+    @Timed("roomescape.repository")
+    public Optional<List<ReservationSlot>> findSlotsByThemeId(Long themeId, DateRange dateRange) {
+        // The theme row comes back even without bookings (with a null date), so one round trip also answers whether it exists.
+        List<Optional<ReservationSlot>> rows = jdbcTemplate.query("SELECT t.id, r.date, r.time FROM theme t "
+                        + "LEFT JOIN reservation r ON r.theme_id = t.id AND r.date BETWEEN ? AND ? WHERE t.id = ?",
+                (resultSet, rowNumber) -> resultSet.getDate(2) == null
+                        ? Optional.empty()
+                        : Optional.of(SLOT_ROW_MAPPER.mapRow(resultSet, rowNumber)),
+                dateRange.getFrom(), dateRange.getTo(), themeId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
         }
-        throw new ReservationNotFoundException();
+        return Optional.of(rows.stream()
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList()));
     }
 
-    private RowMapper<Reservation> reservationResponseRowMapper() {
-        return (resultSet, rowNumber) -> {
-            Long id = resultSet.getLong(Reservation.Column.ID);
-            LocalDate date = resultSet.getDate(Reservation.Column.DATE).toLocalDate();
-            LocalTime time = resultSet.getTime(Reservation.Column.TIME).toLocalTime();
-            String name = resultSet.getString(Reservation.Column.NAME);
-            Long themeId = resultSet.getLong(Reservation.Column.THEME_ID);
+    @Override
+    @Timed("roomescape.repository")
+    public void deleteById(Long id) {
+        if (jdbcTemplate.update("DELETE FROM reservation WHERE id=?", id) == 0) {
+            throw new ReservationNotFoundException();
+        }
+    }
 
-            return new Reservation(id, date, time, name, themeId);
-        };
+    // fk_reservation_theme rejects the DELETE while the theme has reservations (JdbcTemplateThemeRepository turns that
+    // into CorrespondingReservationExistException), so no separate probe is sent and nothing can slip in between.
+    @Override
+    public void deleteThemeIfUnreserved(Long themeId, Runnable themeDelete) {
+        themeDelete.run();
     }
 }
\ No newline at end of file
@@ -2,8 +2,15 @@ package kakao.repository;
 
 import kakao.controller.request.ThemeRequest;
 import kakao.controller.response.ThemeResponse;
+import kakao.exception.CorrespondingReservationExistException;
+import kakao.exception.DuplicatedThemeException;
+import kakao.exception.InvalidThemeRequestException;
 import kakao.exception.ThemeNotFoundException;
 import kakao.model.Theme;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -11,63 +18,103 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
+@ConditionalOnProperty(name = "roomescape.reservation-store", havingValue = "jdbc", matchIfMissing = true)
 public class JdbcTemplateThemeRepository implements ThemeRepository {
+    private static final String SELECT_SQL = "SELECT id, name, desc, price FROM theme";
+
+    private static final RowMapper<Theme> THEME_ROW_MAPPER = (resultSet, rowNumber) -> new Theme(
+            resultSet.getLong(1),
+            resultSet.getString(2),
+            resultSet.getString(3),
+            resultSet.getInt(4));
+
     private final JdbcTemplate jdbcTemplate;
+    private final SimpleJdbcInsert jdbcInsert;
 
     public JdbcTemplateThemeRepository(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        // Columns are listed up front so the insert compiles once without reading table metadata.
+        this.jdbcInsert = new SimpleJdbcInsert(jdbcTemplate)
+                .withTableName(TABLE_NAME)
+                .usingColumns(Theme.Column.NAME, Theme.Column.DESC, Theme.Column.PRICE)
+                .usingGeneratedKeyColumns(Theme.Column.ID)
+                .withoutTableColumnMetaDataAccess();
     }
 
     @Override
+    @Timed("roomescape.repository")
     public Long create(ThemeRequest themeRequest) {
-        SimpleJdbcInsert jdbcInsert = new SimpleJdbcInsert(jdbcTemplate)
-                .withTableName(TABLE_NAME)
-                .usingGeneratedKeyColumns("id");
-
         SqlParameterSource parameterSource = new MapSqlParameterSource()
                 .addValue(Theme.Column.NAME, themeRequest.getName())
                 .addValue(Theme.Column.DESC, themeRequest.getDesc())
                 .addValue(Theme.Column.PRICE, themeRequest.getPrice());
 
-        return jdbcInsert.executeAndReturnKey(parameterSource).longValue();
+        try {
+            return jdbcInsert.executeAndReturnKey(parameterSource).longValue();
+        } catch (DuplicateKeyException e) {
+            throw new DuplicatedThemeException();
+        } catch (DataIntegrityViolationException e) {
+            // Anything else the schema rejects, such as an over-long name or description.
+            throw new InvalidThemeRequestException();
+        }
     }
 
     @Override
+    @Timed("roomescape.repository")
     public Optional<Theme> findById(Long id) {
-        return jdbcTemplate.query("SELECT * FROM theme WHERE id=?", themeResponseRowMapper(), id).stream().findAny();
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id=?", THEME_ROW_MAPPER, id).stream().findAny();
     }
 
     @Override
+    @Timed("roomescape.repository")
+    public boolean existsById(Long id) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM theme WHERE id=? LIMIT 1", Integer.class, id).isEmpty();
+    }
+
+    @Override
+    @Timed("roomescape.repository")
     public Optional<Theme> findByName(String name) {
-        return jdbcTemplate.query("SELECT * FROM theme WHERE name=?", themeResponseRowMapper(), name).stream().findAny();
+        return jdbcTemplate.query(SELECT_SQL + " WHERE name=?", THEME_ROW_MAPPER, name).stream().findAny();
     }
 
     @Override
+    @Timed("roomescape.repository")
     public List<Theme> findAll() {
-        return jdbcTemplate.query("SELECT * FROM theme", themeResponseRowMapper());
+        return jdbcTemplate.query(SELECT_SQL, THEME_ROW_MAPPER);
     }
 
     @Override
-    public void deleteById(Long id) {
-        if (findById(id).isPresent()) {
-            jdbcTemplate.update("DELETE FROM theme WHERE id=?", id);
-            return;
+    @Timed("roomescape.repository")
+    public Set<Long> findIdsByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptySet();
         }
-        throw new ThemeNotFoundException();
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Long> foundIds = jdbcTemplate.queryForList("SELECT id FROM theme WHERE id IN (" + placeholders + ")", Long.class, ids.toArray());
+
+        return new HashSet<>(foundIds);
     }
 
-    private RowMapper<Theme> themeResponseRowMapper() {
-        return (resultSet, rowNumber) -> {
-            Long id = resultSet.getLong(Theme.Column.ID);
-            String name = resultSet.getString(Theme.Column.NAME);
-            String desc = resultSet.getString(Theme.Column.DESC);
-            Integer price = resultSet.getInt(Theme.Column.PRICE);
+    @Override
+    @Timed("roomescape.repository")
+    public void deleteById(Long id) {
+        int deletedRows;
+        try {
+            deletedRows = jdbcTemplate.update("DELETE FROM theme WHERE id=?", id);
+        } catch (DataIntegrityViolationException e) {
+            throw new CorrespondingReservationExistException();
+        }
 
-            return new Theme(id, name, desc, price);
-        };
+        if (deletedRows == 0) {
+            throw new ThemeNotFoundException();
+        }
     }
 }
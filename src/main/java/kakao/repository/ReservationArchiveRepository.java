@@ -0,0 +1,14 @@
+package kakao.repository;
+
+import kakao.controller.response.ReservationResponse;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface ReservationArchiveRepository {
+    public static final String TABLE_NAME = "reservation_archive";
+
+    int archiveChunkBefore(LocalDate cutoff, int chunkSize);
+    Optional<ReservationResponse> findWithThemeById(Long id);
+    boolean existsById(Long id);
+}
@@ -0,0 +1,586 @@
+package kakao.repository;
+
+import kakao.model.Reservation;
+import kakao.model.Theme;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Append-only journal of theme and reservation creates and deletes with periodic snapshots.
+// One writer thread group-commits: everything queued while the previous fsync ran is written and forced together.
+// Every record is framed as [length][crc32][payload], so replay stops cleanly at a torn tail and refuses a bad frame
+// anywhere else, since acknowledged records follow it.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "roomescape.journal.enabled", havingValue = "true")
+public class ReservationJournal {
+    // V1 creates carry unsigned 16-bit string lengths and are only read; creates are written with int lengths, -1 for null.
+    private static final byte RESERVATION_CREATE_V1 = 1;
+    private static final byte RESERVATION_DELETE = 2;
+    private static final byte THEME_CREATE_V1 = 3;
+    private static final byte THEME_DELETE = 4;
+    private static final byte RESERVATION_CREATE = 5;
+    private static final byte THEME_CREATE = 6;
+    private static final int SNAPSHOT_MAGIC_V1 = 0x52534E50;
+    // V2 adds both id high-water marks and the themes.
+    private static final int SNAPSHOT_MAGIC = 0x52534E32;
+    private static final int MAX_RECORD_LENGTH = 1 << 16;
+    private static final int FRAME_HEADER_LENGTH = 2 * Integer.BYTES;
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int maxBatchSize;
+    private final Duration snapshotInterval;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong appendedSinceSnapshot = new AtomicLong();
+    // Held shared by a change from its in-memory apply to its acknowledgement or rollback, and exclusively by a
+    // snapshot while it rotates and captures state, so a snapshot never sees a change its journal record may not back.
+    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reservation-journal-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Thread writer;
+    private volatile boolean running;
+    // Set when a failed segment could not be cut back to its last forced frame; every later write fails with it.
+    private volatile IOException broken;
+    private FileChannel segment;
+    private long segmentNumber;
+    private long forcedSize;
+    private Supplier<State> state;
+
+    public ReservationJournal(@Value("${roomescape.journal.directory:./data/journal}") String directory,
+                              @Value("${roomescape.journal.max-batch-size:256}") int maxBatchSize,
+                              @Value("${roomescape.journal.snapshot-interval:5m}") Duration snapshotInterval) {
+        this.directory = Paths.get(directory);
+        this.maxBatchSize = maxBatchSize;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public void recover(Replay replay) {
+        try {
+            Files.createDirectories(directory);
+            long firstSegment = readSnapshot(replay);
+            long lastSegment = firstSegment - 1;
+            for (long number : segmentNumbers()) {
+                if (number >= firstSegment) {
+                    replaySegment(number, replay);
+                    lastSegment = number;
+                }
+            }
+            segmentNumber = lastSegment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not recover reservation journal in " + directory, e);
+        }
+    }
+
+    // Appends always go to a fresh segment, so nothing is ever written after a possibly torn tail.
+    public void start(Supplier<State> state) {
+        this.state = state;
+        try {
+            openNextSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "reservation-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        long intervalMillis = snapshotInterval.toMillis();
+        snapshotScheduler.scheduleWithFixedDelay(this::snapshotIfChanged, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public <T> T mutate(Supplier<T> change) {
+        stateLock.readLock().lock();
+        try {
+            return change.get();
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    public CompletableFuture<Void> appendCreate(Reservation reservation) {
+        return enqueue(encodeReservation(reservation));
+    }
+
+    public CompletableFuture<Void> appendDelete(long id) {
+        return enqueue(encodeDelete(RESERVATION_DELETE, id));
+    }
+
+    public CompletableFuture<Void> appendThemeCreate(Theme theme) {
+        return enqueue(encodeTheme(theme));
+    }
+
+    public CompletableFuture<Void> appendThemeDelete(long id) {
+        return enqueue(encodeDelete(THEME_DELETE, id));
+    }
+
+    // Every record in a segment older than the rotation belongs to a change that finished before the state was
+    // captured, so the segment can be dropped once the snapshot is on disk.
+    public void snapshot() {
+        long firstSegmentAfterSnapshot;
+        State captured;
+        stateLock.writeLock().lock();
+        try {
+            PendingWrite rotation = PendingWrite.rotation();
+            queue.add(rotation);
+            rotation.completion.join();
+            firstSegmentAfterSnapshot = rotation.rotatedTo;
+            captured = state.get();
+        } catch (CompletionException e) {
+            log.warn("Reservation journal could not rotate; snapshot skipped", e.getCause());
+            return;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+
+        try {
+            writeSnapshot(firstSegmentAfterSnapshot, captured);
+            for (long number : segmentNumbers()) {
+                if (number < firstSegmentAfterSnapshot) {
+                    Files.deleteIfExists(segmentPath(number));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Reservation journal snapshot failed; segments are kept", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException, IOException {
+        snapshotScheduler.shutdownNow();
+        running = false;
+        if (writer != null) {
+            writer.join();
+        }
+        if (segment != null) {
+            segment.close();
+        }
+    }
+
+    private void snapshotIfChanged() {
+        if (appendedSinceSnapshot.getAndSet(0) > 0) {
+            snapshot();
+        }
+    }
+
+    private CompletableFuture<Void> enqueue(byte[] payload) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Reservation journal is not running"));
+        }
+        PendingWrite write = PendingWrite.record(payload);
+        queue.add(write);
+        appendedSinceSnapshot.incrementAndGet();
+        return write.completion;
+    }
+
+    private void writeLoop() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        if (broken != null) {
+            fail(batch, broken);
+            return;
+        }
+        List<PendingWrite> unforced = new ArrayList<>(batch.size());
+        try {
+            for (PendingWrite write : batch) {
+                if (write.isRotation()) {
+                    force(unforced);
+                    segment.close();
+                    openNextSegment();
+                    write.rotatedTo = segmentNumber;
+                    write.completion.complete(null);
+                    continue;
+                }
+                writeFully(frame(write.payload));
+                unforced.add(write);
+            }
+            force(unforced);
+        } catch (Throwable e) {
+            // Not only I/O errors: anything escaping here would end the writer thread and leave every caller waiting.
+            fail(batch, e);
+            discardUnforced();
+        }
+    }
+
+    private void fail(List<PendingWrite> batch, Throwable cause) {
+        RuntimeException failure = cause instanceof IOException
+                ? new UncheckedIOException("Reservation journal write failed", (IOException) cause)
+                : new IllegalStateException("Reservation journal write failed", cause);
+        batch.stream()
+                .filter(write -> !write.completion.isDone())
+                .forEach(write -> write.completion.completeExceptionally(failure));
+    }
+
+    // Frames written after the last force were reported as failed, so they must not be replayed, and nothing
+    // acknowledged later may land behind a torn frame: cut the segment back and continue in a fresh one.
+    private void discardUnforced() {
+        try {
+            if (segment.isOpen()) {
+                segment.truncate(forcedSize);
+                segment.force(false);
+                segment.close();
+            }
+            openNextSegment();
+        } catch (IOException e) {
+            broken = e;
+            log.error("Reservation journal segment {} could not be reset; further writes will fail", segmentNumber, e);
+        }
+    }
+
+    private void force(List<PendingWrite> unforced) throws IOException {
+        if (unforced.isEmpty()) {
+            return;
+        }
+        segment.force(false);
+        forcedSize = segment.size();
+        unforced.forEach(write -> write.completion.complete(null));
+        unforced.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            segment.write(buffer);
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        segment = FileChannel.open(segmentPath(++segmentNumber), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        forcedSize = segment.size();
+    }
+
+    private long readSnapshot(Replay replay) throws IOException {
+        Path snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshotPath)) {
+            return 1;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            int magic = input.readInt();
+            if (magic != SNAPSHOT_MAGIC && magic != SNAPSHOT_MAGIC_V1) {
+                throw new IOException("Not a reservation snapshot: " + snapshotPath);
+            }
+            long firstSegment = input.readLong();
+            if (magic == SNAPSHOT_MAGIC) {
+                replay.sequencesRecovered(input.readLong(), input.readLong());
+                int themeCount = input.readInt();
+                for (int i = 0; i < themeCount; i++) {
+                    byte[] payload = readSnapshotRecord(input, snapshotPath);
+                    replay.themeCreated(decodeTheme(payload[0], ByteBuffer.wrap(payload, 1, payload.length - 1)));
+                }
+            }
+            int reservationCount = input.readInt();
+            for (int i = 0; i < reservationCount; i++) {
+                byte[] payload = readSnapshotRecord(input, snapshotPath);
+                replay.reservationCreated(decodeReservation(payload[0], ByteBuffer.wrap(payload, 1, payload.length - 1)));
+            }
+            return firstSegment;
+        }
+    }
+
+    // The snapshot is written to a temporary file and moved into place once synced, so it is never legitimately torn.
+    private byte[] readSnapshotRecord(DataInputStream input, Path snapshotPath) throws IOException {
+        byte[] payload = readFrame(input, Long.MAX_VALUE, snapshotPath);
+        if (payload == null) {
+            throw new IOException("Truncated reservation snapshot: " + snapshotPath);
+        }
+        return payload;
+    }
+
+    private void writeSnapshot(long firstSegment, State captured) throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file))) {
+            output.writeInt(SNAPSHOT_MAGIC);
+            output.writeLong(firstSegment);
+            output.writeLong(captured.getReservationSequence());
+            output.writeLong(captured.getThemeSequence());
+            output.writeInt(captured.getThemes().size());
+            for (Theme theme : captured.getThemes()) {
+                writeFrame(output, encodeTheme(theme));
+            }
+            output.writeInt(captured.getReservations().size());
+            for (Reservation reservation : captured.getReservations()) {
+                writeFrame(output, encodeReservation(reservation));
+            }
+            output.flush();
+            file.getFD().sync();
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeFrame(DataOutputStream output, byte[] payload) throws IOException {
+        ByteBuffer framed = frame(payload);
+        output.write(framed.array(), 0, framed.limit());
+    }
+
+    private void replaySegment(long number, Replay replay) throws IOException {
+        Path path = segmentPath(number);
+        long remaining = Files.size(path);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            byte[] payload;
+            while ((payload = readFrame(input, remaining, path)) != null) {
+                remaining -= FRAME_HEADER_LENGTH + payload.length;
+                ByteBuffer body = ByteBuffer.wrap(payload, 1, payload.length - 1);
+                switch (payload[0]) {
+                    case RESERVATION_CREATE:
+                    case RESERVATION_CREATE_V1:
+                        replay.reservationCreated(decodeReservation(payload[0], body));
+                        break;
+                    case RESERVATION_DELETE:
+                        replay.reservationDeleted(body.getLong());
+                        break;
+                    case THEME_CREATE:
+                    case THEME_CREATE_V1:
+                        replay.themeCreated(decodeTheme(payload[0], body));
+                        break;
+                    case THEME_DELETE:
+                        replay.themeDeleted(body.getLong());
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    // Returns null at the end of the segment or at a torn tail: a frame cut off by the end of the file, or zeros up to it.
+    // Nothing after a torn tail was acknowledged. A bad frame with more data behind it is corruption, and stopping there
+    // would silently drop acknowledged records, so it fails recovery instead.
+    private byte[] readFrame(DataInputStream input, long remaining, Path source) throws IOException {
+        if (remaining < FRAME_HEADER_LENGTH) {
+            return null;
+        }
+        int length = input.readInt();
+        int checksum = input.readInt();
+        long available = remaining - FRAME_HEADER_LENGTH;
+        if (length > available) {
+            return null;
+        }
+        if (length == 0 && checksum == 0 && onlyZerosLeft(input)) {
+            return null;
+        }
+        if (length <= 0 || length > MAX_RECORD_LENGTH) {
+            throw new IOException("Reservation journal record of length " + length + " is corrupt in " + source);
+        }
+        byte[] payload = new byte[length];
+        input.readFully(payload);
+        if (checksum(payload) == checksum) {
+            return payload;
+        }
+        if (length == available) {
+            return null;
+        }
+        throw new IOException("Reservation journal record fails its checksum in " + source);
+    }
+
+    private boolean onlyZerosLeft(DataInputStream input) throws IOException {
+        int next;
+        while ((next = input.read()) != -1) {
+            if (next != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ByteBuffer frame(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Integer.BYTES + payload.length);
+        buffer.putInt(payload.length).putInt(checksum(payload)).put(payload);
+        return buffer.flip();
+    }
+
+    private int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private byte[] encodeReservation(Reservation reservation) {
+        byte[] name = encodeString(reservation.getName());
+        ByteBuffer payload = ByteBuffer.allocate(checkedLength(1 + 3 * Long.BYTES + Integer.BYTES + name.length));
+        payload.put(RESERVATION_CREATE)
+                .putLong(reservation.getId())
+                .putLong(reservation.getDate().toEpochDay())
+                .putInt(reservation.getTime().toSecondOfDay())
+                .putLong(reservation.getThemeId())
+                .put(name);
+        return payload.array();
+    }
+
+    private Reservation decodeReservation(byte type, ByteBuffer payload) {
+        long id = payload.getLong();
+        LocalDate date = LocalDate.ofEpochDay(payload.getLong());
+        LocalTime time = LocalTime.ofSecondOfDay(payload.getInt());
+        long themeId = payload.getLong();
+        return new Reservation(id, date, time, decodeString(type == RESERVATION_CREATE_V1, payload), themeId);
+    }
+
+    private byte[] encodeTheme(Theme theme) {
+        byte[] name = encodeString(theme.getName());
+        byte[] desc = encodeString(theme.getDesc());
+        ByteBuffer payload = ByteBuffer.allocate(checkedLength(1 + Long.BYTES + Integer.BYTES + name.length + desc.length));
+        payload.put(THEME_CREATE)
+                .putLong(theme.getId())
+                .putInt(theme.getPrice())
+                .put(name)
+                .put(desc);
+        return payload.array();
+    }
+
+    private Theme decodeTheme(byte type, ByteBuffer payload) {
+        long id = payload.getLong();
+        int price = payload.getInt();
+        boolean legacy = type == THEME_CREATE_V1;
+        String name = decodeString(legacy, payload);
+        return new Theme(id, name, decodeString(legacy, payload), price);
+    }
+
+    private byte[] encodeDelete(byte type, long id) {
+        ByteBuffer payload = ByteBuffer.allocate(1 + Long.BYTES);
+        payload.put(type).putLong(id);
+        return payload.array();
+    }
+
+    // [int length][UTF-8 bytes], with length -1 for null.
+    private byte[] encodeString(String value) {
+        if (value == null) {
+            return ByteBuffer.allocate(Integer.BYTES).putInt(-1).array();
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes).array();
+    }
+
+    private String decodeString(boolean legacy, ByteBuffer payload) {
+        int length = legacy ? Short.toUnsignedInt(payload.getShort()) : payload.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Refused before it is queued: replay treats a frame over the limit as corruption.
+    private int checkedLength(int length) {
+        if (length > MAX_RECORD_LENGTH) {
+            throw new IllegalArgumentException("Reservation journal record of " + length + " bytes exceeds " + MAX_RECORD_LENGTH);
+        }
+        return length;
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private List<Long> segmentNumbers() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    // Receives recovered changes in journal order; applying one twice must be harmless.
+    public interface Replay {
+        void sequencesRecovered(long reservationSequence, long themeSequence);
+        void themeCreated(Theme theme);
+        void themeDeleted(long id);
+        void reservationCreated(Reservation reservation);
+        void reservationDeleted(long id);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class State {
+        private final long reservationSequence;
+        private final long themeSequence;
+        private final Collection<Theme> themes;
+        private final Collection<Reservation> reservations;
+    }
+
+    private static class PendingWrite {
+        private final byte[] payload;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private long rotatedTo;
+
+        private PendingWrite(byte[] payload) {
+            this.payload = payload;
+        }
+
+        static PendingWrite record(byte[] payload) {
+            return new PendingWrite(payload);
+        }
+
+        static PendingWrite rotation() {
+            return new PendingWrite(null);
+        }
+
+        boolean isRotation() {
+            return payload == null;
+        }
+    }
+}
@@ -2,19 +2,35 @@ package kakao.repository;
 
 import kakao.controller.request.ReservationRequest;
 import kakao.controller.response.ReservationResponse;
+import kakao.model.DateRange;
 import kakao.model.Reservation;
+import kakao.model.ReservationCursor;
+import kakao.model.ReservationSlot;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ReservationRepository {
     public static final String TABLE_NAME = "reservation";
 
     Long create(ReservationRequest reservationRequest);
+    List<Long> createAll(List<ReservationRequest> reservationRequests);
     Optional<Reservation> findById(Long id);
+    Optional<ReservationResponse> findWithThemeById(Long id);
+    boolean existsById(Long id);
     Optional<Reservation> findByDateAndTimeAndThemeId(LocalDate date, LocalTime time, Long themeId);
-    List<Reservation> findByThemeId(Long themeId);
+    boolean existsByThemeId(Long themeId);
+    List<ReservationResponse> findPageByThemeId(Long themeId, DateRange dateRange, ReservationCursor after, int limit);
+    void streamByThemeId(Long themeId, DateRange dateRange, Consumer<ReservationResponse> consumer);
+    Set<ReservationSlot> findSlotsIn(Collection<ReservationSlot> slots);
+    // Empty when the theme does not exist, so callers need no separate existence probe.
+    Optional<List<ReservationSlot>> findSlotsByThemeId(Long themeId, DateRange dateRange);
     void deleteById(Long id);
+    // Runs themeDelete only if the theme has no reservations, and keeps bookings from racing in while it runs.
+    void deleteThemeIfUnreserved(Long themeId, Runnable themeDelete);
 }
@@ -4,15 +4,19 @@ import kakao.controller.request.ThemeRequest;
 import kakao.controller.response.ThemeResponse;
 import kakao.model.Theme;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ThemeRepository {
     public static final String TABLE_NAME = "theme";
     Long create(ThemeRequest themeRequest);
     Optional<Theme> findById(Long id);
+    boolean existsById(Long id);
     Optional<Theme> findByName(String name);
     List<Theme> findAll();
+    Set<Long> findIdsByIdIn(Collection<Long> ids);
 
     void deleteById(Long id);
 }
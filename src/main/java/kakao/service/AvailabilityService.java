@@ -0,0 +1,10 @@
+package kakao.service;
+
+import kakao.controller.response.AvailabilityResponse;
+import kakao.model.DateRange;
+
+import java.util.List;
+
+public interface AvailabilityService {
+    List<AvailabilityResponse> findAvailability(Long themeId, DateRange dateRange);
+}
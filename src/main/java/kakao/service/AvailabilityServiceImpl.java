@@ -0,0 +1,57 @@
+package kakao.service;
+
+import kakao.config.ScheduleProperties;
+import kakao.controller.response.AvailabilityResponse;
+import kakao.exception.InvalidDateRangeException;
+import kakao.exception.ThemeNotFoundException;
+import kakao.model.DateRange;
+import kakao.model.ReservationSlot;
+import kakao.repository.ReservationRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class AvailabilityServiceImpl implements AvailabilityService {
+    private final ReservationRepository reservationRepository;
+    private final List<LocalTime> slotTimes;
+    private final int maxDays;
+    private final ReservationArchiver reservationArchiver;
+
+    public AvailabilityServiceImpl(ReservationRepository reservationRepository, ScheduleProperties scheduleProperties,
+                                   Optional<ReservationArchiver> reservationArchiver) {
+        this.reservationRepository = reservationRepository;
+        this.slotTimes = scheduleProperties.slotTimes();
+        this.maxDays = scheduleProperties.getMaxDays();
+        this.reservationArchiver = reservationArchiver.orElse(null);
+    }
+
+    @Override
+    public List<AvailabilityResponse> findAvailability(Long themeId, DateRange dateRange) {
+        if (dateRange.days() > maxDays) {
+            throw new InvalidDateRangeException();
+        }
+        // Archived slots are not in the live table and would otherwise be reported as free.
+        if (reservationArchiver != null) {
+            reservationArchiver.checkLive(dateRange);
+        }
+        Set<ReservationSlot> bookedSlots = new HashSet<>(reservationRepository.findSlotsByThemeId(themeId, dateRange)
+                .orElseThrow(ThemeNotFoundException::new));
+        List<AvailabilityResponse> availability = new ArrayList<>();
+        for (LocalDate date = dateRange.getFrom(); !date.isAfter(dateRange.getTo()); date = date.plusDays(1)) {
+            List<AvailabilityResponse.Slot> slots = new ArrayList<>(slotTimes.size());
+            for (LocalTime time : slotTimes) {
+                boolean booked = bookedSlots.contains(new ReservationSlot(themeId, date, time));
+                slots.add(new AvailabilityResponse.Slot(time, !booked));
+            }
+            availability.add(new AvailabilityResponse(date, slots));
+        }
+        return availability;
+    }
+}
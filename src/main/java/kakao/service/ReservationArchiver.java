@@ -0,0 +1,71 @@
+package kakao.service;
+
+import kakao.exception.ArchivedDateRangeException;
+import kakao.model.DateRange;
+import kakao.repository.ReservationArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+// Moves reservations dated before the retention window into the archive, one short transaction per chunk.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "roomescape.archive.enabled", havingValue = "true")
+public class ReservationArchiver {
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final Clock clock;
+
+    @Autowired
+    public ReservationArchiver(ReservationArchiveRepository reservationArchiveRepository,
+                               @Value("${roomescape.archive.retention-days:90}") int retentionDays,
+                               @Value("${roomescape.archive.chunk-size:1000}") int chunkSize) {
+        this(reservationArchiveRepository, retentionDays, chunkSize, Clock.systemDefaultZone());
+    }
+
+    public ReservationArchiver(ReservationArchiveRepository reservationArchiveRepository, int retentionDays, int chunkSize, Clock clock) {
+        this.reservationArchiveRepository = reservationArchiveRepository;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+    }
+
+    @Scheduled(initialDelayString = "${roomescape.archive.interval:PT1H}", fixedDelayString = "${roomescape.archive.interval:PT1H}")
+    public void archive() {
+        LocalDate cutoff = cutoff();
+        long archived = archiveBefore(cutoff);
+        if (archived > 0) {
+            log.info("Archived {} reservations dated before {}", archived, cutoff);
+        }
+    }
+
+    // Only grows, so no reservation dated on or after it has been archived, whenever the job last ran.
+    public LocalDate cutoff() {
+        return LocalDate.now(clock).minusDays(retentionDays);
+    }
+
+    // Range reads only see the live table, so a range that may reach into the archive is refused instead of
+    // silently coming back short.
+    public void checkLive(DateRange dateRange) {
+        if (dateRange.getFrom().isBefore(cutoff())) {
+            throw new ArchivedDateRangeException();
+        }
+    }
+
+    public long archiveBefore(LocalDate cutoff) {
+        long archived = 0;
+        int moved;
+        do {
+            moved = reservationArchiveRepository.archiveChunkBefore(cutoff, chunkSize);
+            archived += moved;
+        } while (moved == chunkSize);
+        return archived;
+    }
+}
@@ -0,0 +1,90 @@
+package kakao.service;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.response.BulkReservationResponse;
+import kakao.exception.CustomRuntimeException;
+import kakao.model.ReservationSlot;
+import kakao.repository.ReservationRepository;
+import kakao.repository.ThemeRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static kakao.exception.ErrorCode.DUPLICATE_RESERVATION;
+import static kakao.exception.ErrorCode.INVALID_RESERVATION_REQUEST;
+import static kakao.exception.ErrorCode.THEME_NOT_FOUND;
+
+@Component
+public class ReservationBatchWriter {
+    private final ReservationRepository reservationRepository;
+    private final ThemeRepository themeRepository;
+
+    public ReservationBatchWriter(ReservationRepository reservationRepository, ThemeRepository themeRepository) {
+        this.reservationRepository = reservationRepository;
+        this.themeRepository = themeRepository;
+    }
+
+    public List<BulkReservationResponse> write(List<ReservationRequest> reservationRequests) {
+        Set<Long> existingThemeIds = themeRepository.findIdsByIdIn(reservationRequests.stream()
+                .map(ReservationRequest::getThemeId)
+                .collect(Collectors.toSet()));
+        Set<ReservationSlot> claimedSlots = new HashSet<>(reservationRepository.findSlotsIn(reservationRequests.stream()
+                .map(this::slotOf)
+                .collect(Collectors.toSet())));
+
+        BulkReservationResponse[] results = new BulkReservationResponse[reservationRequests.size()];
+        List<ReservationRequest> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < reservationRequests.size(); i++) {
+            ReservationRequest reservationRequest = reservationRequests.get(i);
+            if (!existingThemeIds.contains(reservationRequest.getThemeId())) {
+                results[i] = BulkReservationResponse.failed(THEME_NOT_FOUND);
+            } else if (!claimedSlots.add(slotOf(reservationRequest))) {
+                results[i] = BulkReservationResponse.failed(DUPLICATE_RESERVATION);
+            } else {
+                accepted.add(reservationRequest);
+                acceptedIndexes.add(i);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            insert(accepted, acceptedIndexes, results);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void insert(List<ReservationRequest> accepted, List<Integer> acceptedIndexes, BulkReservationResponse[] results) {
+        try {
+            List<Long> ids = reservationRepository.createAll(accepted);
+            for (int i = 0; i < ids.size(); i++) {
+                results[acceptedIndexes.get(i)] = BulkReservationResponse.created(ids.get(i));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent booking or theme delete slipped in after the check; the batch was rolled back, so settle each item alone.
+            for (int i = 0; i < accepted.size(); i++) {
+                results[acceptedIndexes.get(i)] = writeOne(accepted.get(i));
+            }
+        }
+    }
+
+    private BulkReservationResponse writeOne(ReservationRequest reservationRequest) {
+        try {
+            return BulkReservationResponse.created(reservationRepository.create(reservationRequest));
+        } catch (CustomRuntimeException e) {
+            return BulkReservationResponse.failed(e.getErrorCode());
+        } catch (DataIntegrityViolationException e) {
+            // Anything the schema rejects beyond the slot constraint, such as an over-long name.
+            return BulkReservationResponse.failed(INVALID_RESERVATION_REQUEST);
+        }
+    }
+
+    private ReservationSlot slotOf(ReservationRequest reservationRequest) {
+        return new ReservationSlot(reservationRequest.getThemeId(), reservationRequest.getDate(), reservationRequest.getTime());
+    }
+}
@@ -1,12 +1,29 @@
 package kakao.service;
 
 import kakao.controller.request.ReservationRequest;
+import kakao.controller.response.BulkReservationResponse;
+import kakao.controller.response.ReservationPageResponse;
 import kakao.controller.response.ReservationResponse;
+import kakao.model.DateRange;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface ReservationService {
     Long book(ReservationRequest reservationRequest);
 
+    List<BulkReservationResponse> bookAll(Iterator<ReservationRequest> reservationRequests);
+
     ReservationResponse lookUp(Long id);
 
+    boolean exists(Long id);
+
     void cancel(Long id);
+
+    ReservationPageResponse findByTheme(Long themeId, DateRange dateRange, String cursor, int size);
+
+    void exportByTheme(Long themeId, DateRange dateRange, Consumer<ReservationResponse> consumer);
+
+    void checkLive(DateRange dateRange);
 }
@@ -1,56 +1,152 @@
 package kakao.service;
 
-import kakao.exception.DuplicatedReservationException;
+import kakao.exception.BookingTimeoutException;
+import kakao.exception.CustomRuntimeException;
+import kakao.exception.ReservationArchivedException;
 import kakao.exception.ReservationNotFoundException;
 import kakao.controller.request.ReservationRequest;
+import kakao.controller.response.BulkReservationResponse;
+import kakao.controller.response.ReservationPageResponse;
 import kakao.controller.response.ReservationResponse;
-import kakao.exception.ThemeNotFoundException;
-import kakao.model.Reservation;
-import kakao.model.Theme;
+import kakao.model.DateRange;
+import kakao.model.ReservationCursor;
+import io.micrometer.core.annotation.Timed;
+import kakao.repository.ReservationArchiveRepository;
 import kakao.repository.ReservationRepository;
-import kakao.repository.ThemeRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
 @Service
 public class ReservationServiceImpl implements ReservationService{
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final ReservationRepository reservationRepository;
-    private final ThemeRepository themeRepository;
+    private final ReservationBatchWriter reservationBatchWriter;
+    private final ReservationWritePipeline reservationWritePipeline;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final ReservationArchiver reservationArchiver;
 
-    public ReservationServiceImpl(ReservationRepository reservationRepository, ThemeRepository themeRepository) {
+    public ReservationServiceImpl(ReservationRepository reservationRepository, ReservationBatchWriter reservationBatchWriter,
+                                  Optional<ReservationWritePipeline> reservationWritePipeline,
+                                  Optional<ReservationArchiveRepository> reservationArchiveRepository,
+                                  Optional<ReservationArchiver> reservationArchiver) {
         this.reservationRepository = reservationRepository;
-        this.themeRepository = themeRepository;
+        this.reservationBatchWriter = reservationBatchWriter;
+        this.reservationWritePipeline = reservationWritePipeline.orElse(null);
+        this.reservationArchiveRepository = reservationArchiveRepository.orElse(null);
+        this.reservationArchiver = reservationArchiver.orElse(null);
     }
 
+    @Timed(value = "roomescape.booking", histogram = true)
     public Long book(ReservationRequest reservationRequest) {
-        checkIfThemeExist(reservationRequest.getThemeId());
-        checkIfDuplicatedReservation(reservationRequest);
+        if (reservationWritePipeline == null) {
+            return reservationRepository.create(reservationRequest);
+        }
+        try {
+            return reservationWritePipeline.submit(reservationRequest).join();
+        } catch (CompletionException e) {
+            // A timeout can land while the batch holding the booking is being inserted, so it may still have been made;
+            // a retry under the same Idempotency-Key then settles as DUPLICATE_RESERVATION instead of booking twice.
+            if (e.getCause() instanceof TimeoutException) {
+                throw new BookingTimeoutException();
+            }
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
 
-        return reservationRepository.create(reservationRequest);
+    // An item the iterator rejects with a CustomRuntimeException fails on its own; the items around it are still written.
+    public List<BulkReservationResponse> bookAll(Iterator<ReservationRequest> reservationRequests) {
+        List<BulkReservationResponse> results = new ArrayList<>();
+        List<ReservationRequest> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        List<Integer> chunkIndexes = new ArrayList<>(BULK_CHUNK_SIZE);
+        while (reservationRequests.hasNext()) {
+            int index = results.size();
+            results.add(null);
+            try {
+                chunk.add(reservationRequests.next());
+                chunkIndexes.add(index);
+            } catch (CustomRuntimeException e) {
+                results.set(index, BulkReservationResponse.failed(e.getErrorCode()));
+                continue;
+            }
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                writeChunk(chunk, chunkIndexes, results);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, chunkIndexes, results);
+        }
+        return results;
+    }
+
+    private void writeChunk(List<ReservationRequest> chunk, List<Integer> chunkIndexes, List<BulkReservationResponse> results) {
+        List<BulkReservationResponse> written = reservationBatchWriter.write(chunk);
+        for (int i = 0; i < written.size(); i++) {
+            results.set(chunkIndexes.get(i), written.get(i));
+        }
+        chunk.clear();
+        chunkIndexes.clear();
     }
 
+    // Archived reservations keep their ids, so a lookup that misses the live table falls back to the archive.
     public ReservationResponse lookUp(Long id) {
-        Reservation reservation = reservationRepository.findById(id)
-                .orElseThrow(ReservationNotFoundException::new);
-        Theme theme = themeRepository.findById(reservation.getThemeId())
-                .orElseThrow(ThemeNotFoundException::new);
+        Optional<ReservationResponse> reservation = reservationRepository.findWithThemeById(id);
+        if (reservation.isEmpty() && reservationArchiveRepository != null) {
+            reservation = reservationArchiveRepository.findWithThemeById(id);
+        }
+        return reservation.orElseThrow(ReservationNotFoundException::new);
+    }
 
-        return new ReservationResponse(reservation, theme);
+    public boolean exists(Long id) {
+        return reservationRepository.existsById(id)
+                || reservationArchiveRepository != null && reservationArchiveRepository.existsById(id);
     }
 
+    // An archived reservation is past, so it can still be looked up but no longer cancelled.
     public void cancel(Long id) {
-        reservationRepository.deleteById(id);
+        try {
+            reservationRepository.deleteById(id);
+        } catch (ReservationNotFoundException e) {
+            if (reservationArchiveRepository != null && reservationArchiveRepository.existsById(id)) {
+                throw new ReservationArchivedException();
+            }
+            throw e;
+        }
     }
 
-    private void checkIfThemeExist(Long themeId) {
-        if(themeRepository.findById(themeId).isEmpty()) {
-            throw new ThemeNotFoundException();
+    public ReservationPageResponse findByTheme(Long themeId, DateRange dateRange, String cursor, int size) {
+        checkLive(dateRange);
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ReservationCursor after = cursor == null ? null : ReservationCursor.decode(cursor);
+
+        // One extra row tells whether another page follows without a separate count query.
+        List<ReservationResponse> reservations = reservationRepository.findPageByThemeId(themeId, dateRange, after, limit + 1);
+        if (reservations.size() <= limit) {
+            return new ReservationPageResponse(reservations, null);
         }
+
+        List<ReservationResponse> page = reservations.subList(0, limit);
+        ReservationResponse last = page.get(limit - 1);
+        return new ReservationPageResponse(page, new ReservationCursor(last.getDate(), last.getTime(), last.getId()).encode());
+    }
+
+    public void exportByTheme(Long themeId, DateRange dateRange, Consumer<ReservationResponse> consumer) {
+        checkLive(dateRange);
+        reservationRepository.streamByThemeId(themeId, dateRange, consumer);
     }
-    private void checkIfDuplicatedReservation(ReservationRequest reservationRequest) {
-        if (reservationRepository.findByDateAndTimeAndThemeId(reservationRequest.getDate(), reservationRequest.getTime(), reservationRequest.getThemeId()).isPresent()) {
-            throw new DuplicatedReservationException();
+
+    // Range reads only see the live table; with archiving on, a range reaching past the cutoff is refused.
+    public void checkLive(DateRange dateRange) {
+        if (reservationArchiver != null) {
+            reservationArchiver.checkLive(dateRange);
         }
     }
 }
@@ -0,0 +1,175 @@
+package kakao.service;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.response.BulkReservationResponse;
+import kakao.exception.CustomRuntimeException;
+import kakao.exception.DuplicatedReservationException;
+import kakao.exception.ErrorCode;
+import kakao.exception.InvalidReservationRequestException;
+import kakao.exception.ThemeNotFoundException;
+import kakao.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Coalesces single bookings into micro-batches: one writer thread collects up to max-batch-size requests or waits at most
+// max-delay after the first one, then settles the batch through ReservationBatchWriter (in-memory slot check, one batch insert).
+// Within a batch the earlier request wins a contested slot, as it would have with individual inserts.
+@Component
+@ConditionalOnProperty(name = "roomescape.write-pipeline.enabled", havingValue = "true")
+public class ReservationWritePipeline {
+    private final ReservationBatchWriter reservationBatchWriter;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long maxWaitNanos;
+    private final BlockingQueue<PendingBooking> queue;
+
+    private Thread writer;
+    private volatile boolean running;
+
+    public ReservationWritePipeline(ReservationBatchWriter reservationBatchWriter,
+                                    @Value("${roomescape.write-pipeline.max-batch-size:128}") int maxBatchSize,
+                                    @Value("${roomescape.write-pipeline.max-delay:2ms}") Duration maxDelay,
+                                    @Value("${roomescape.write-pipeline.max-wait:5s}") Duration maxWait,
+                                    @Value("${roomescape.write-pipeline.queue-capacity:10000}") int queueCapacity) {
+        this.reservationBatchWriter = reservationBatchWriter;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxWaitNanos = maxWait.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "reservation-write-pipeline");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // A full queue means the database is not keeping up, so the booking is shed instead of queued without bound.
+    // A booking not settled within max-wait fails with a TimeoutException; if it is still queued by then it is never written.
+    public CompletableFuture<Long> submit(ReservationRequest reservationRequest) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Reservation write pipeline is not running"));
+        }
+        PendingBooking booking = new PendingBooking(reservationRequest);
+        if (!queue.offer(booking)) {
+            throw new TooManyRequestsException();
+        }
+        return booking.completion.orTimeout(maxWaitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join();
+        }
+        // Anything that slipped in after the writer's last look at the queue is failed rather than left hanging.
+        IllegalStateException failure = new IllegalStateException("Reservation write pipeline is not running");
+        PendingBooking booking;
+        while ((booking = queue.poll()) != null) {
+            booking.completion.completeExceptionally(failure);
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingBooking> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingBooking first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch, System.nanoTime() + maxDelayNanos);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<PendingBooking> batch, long deadline) throws InterruptedException {
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingBooking next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // Any failure, Errors included, settles the whole batch: completing an already settled booking is a no-op,
+    // so no caller is left waiting and the writer thread survives to take the next batch.
+    private void writeBatch(List<PendingBooking> batch) {
+        batch.removeIf(booking -> booking.completion.isDone());
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<BulkReservationResponse> results = reservationBatchWriter.write(batch.stream()
+                    .map(booking -> booking.reservationRequest)
+                    .collect(Collectors.toList()));
+            for (int i = 0; i < batch.size(); i++) {
+                BulkReservationResponse result = results.get(i);
+                if (result.getId() != null) {
+                    batch.get(i).completion.complete(result.getId());
+                } else {
+                    batch.get(i).completion.completeExceptionally(failureOf(ErrorCode.valueOf(result.getCode())));
+                }
+            }
+        } catch (Throwable e) {
+            batch.forEach(booking -> booking.completion.completeExceptionally(e));
+        }
+    }
+
+    // Callers see the same exception the direct path throws; any other code still answers with its own status.
+    private static CustomRuntimeException failureOf(ErrorCode errorCode) {
+        switch (errorCode) {
+            case THEME_NOT_FOUND:
+                return new ThemeNotFoundException();
+            case DUPLICATE_RESERVATION:
+                return new DuplicatedReservationException();
+            case INVALID_RESERVATION_REQUEST:
+                return new InvalidReservationRequestException();
+            default:
+                return new BookingFailedException(errorCode);
+        }
+    }
+
+    private static class BookingFailedException extends CustomRuntimeException {
+        private BookingFailedException(ErrorCode errorCode) {
+            super(errorCode);
+        }
+    }
+
+    private static class PendingBooking {
+        private final ReservationRequest reservationRequest;
+        private final CompletableFuture<Long> completion = new CompletableFuture<>();
+
+        private PendingBooking(ReservationRequest reservationRequest) {
+            this.reservationRequest = reservationRequest;
+        }
+    }
+}
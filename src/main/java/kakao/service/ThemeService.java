@@ -10,5 +10,7 @@ public interface ThemeService {
 
     List<ThemeResponse> findAll();
 
+    String catalogueVersion();
+
     void delete(Long id);
 }
@@ -2,13 +2,14 @@ package kakao.service;
 
 import kakao.controller.request.ThemeRequest;
 import kakao.controller.response.ThemeResponse;
-import kakao.exception.CorrespondingReservationExistException;
 import kakao.exception.DuplicatedThemeException;
 import kakao.repository.ReservationRepository;
 import kakao.repository.ThemeRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Service
@@ -16,6 +17,11 @@ public class ThemeServiceImpl implements ThemeService {
     ReservationRepository reservationRepository;
     ThemeRepository themeRepository;
 
+    // Themes only change through this service, so a counter bumped on every create/delete versions the catalogue.
+    // The boot nonce keeps a version handed out by an earlier process (or another instance) from matching this one.
+    private final String bootNonce = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong catalogueVersion = new AtomicLong();
+
     public ThemeServiceImpl(ReservationRepository reservationRepository, ThemeRepository themeRepository) {
         this.reservationRepository = reservationRepository;
         this.themeRepository = themeRepository;
@@ -25,7 +31,11 @@ public class ThemeServiceImpl implements ThemeService {
     public Long create(ThemeRequest themeRequest) {
         checkIfDuplicatedTheme(themeRequest);
 
-        return themeRepository.create(themeRequest);
+        try {
+            return themeRepository.create(themeRequest);
+        } finally {
+            catalogueVersion.incrementAndGet();
+        }
     }
 
     @Override
@@ -37,15 +47,18 @@ public class ThemeServiceImpl implements ThemeService {
 
     @Override
     public void delete(Long id) {
-        checkIfRelatedReservationExist(id);
-        themeRepository.deleteById(id);
+        try {
+            reservationRepository.deleteThemeIfUnreserved(id, () -> themeRepository.deleteById(id));
+        } finally {
+            catalogueVersion.incrementAndGet();
+        }
     }
 
-    private void checkIfRelatedReservationExist(Long id) {
-        if(reservationRepository.findByThemeId(id).size() > 0) {
-            throw new CorrespondingReservationExistException();
-        }
+    @Override
+    public String catalogueVersion() {
+        return bootNonce + "-" + catalogueVersion.get();
     }
+
     private void checkIfDuplicatedTheme(ThemeRequest themeRequest) {
         if(themeRepository.findByName(themeRequest.getName()).isPresent()) {
             throw new DuplicatedThemeException();
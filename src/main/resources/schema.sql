@@ -1,3 +1,12 @@
+CREATE TABLE IF NOT EXISTS theme
+(
+    id    bigint not null auto_increment,
+    name  varchar(20),
+    desc  varchar(255),
+    price int,
+    primary key (id)
+);
+
 CREATE TABLE IF NOT EXISTS RESERVATION
 (
     id       bigint not null auto_increment,
@@ -8,11 +17,52 @@ CREATE TABLE IF NOT EXISTS RESERVATION
     primary key (id)
 );
 
-CREATE TABLE IF NOT EXISTS theme
+CREATE TABLE IF NOT EXISTS reservation_archive
 (
-    id    bigint not null auto_increment,
-    name  varchar(20),
-    desc  varchar(255),
-    price int,
+    id       bigint not null,
+    date     date,
+    time     time,
+    name     varchar(20),
+    theme_id bigint not null,
     primary key (id)
-);
\ No newline at end of file
+);
+
+-- Rows that would break a constraint added below are moved here instead of failing the boot; reason says which one.
+CREATE TABLE IF NOT EXISTS reservation_quarantine
+(
+    id       bigint not null,
+    date     date,
+    time     time,
+    name     varchar(20),
+    theme_id bigint,
+    reason   varchar(20) not null,
+    primary key (id)
+);
+
+-- Databases from before uk_theme_name may hold one theme name several times; the lowest id survives and takes over the bookings.
+UPDATE RESERVATION r SET theme_id = (SELECT MIN(s.id) FROM theme s JOIN theme d ON s.name = d.name WHERE d.id = r.theme_id)
+WHERE theme_id IN (SELECT id FROM theme WHERE name IS NOT NULL AND id NOT IN (SELECT MIN(id) FROM theme GROUP BY name));
+UPDATE reservation_archive r SET theme_id = (SELECT MIN(s.id) FROM theme s JOIN theme d ON s.name = d.name WHERE d.id = r.theme_id)
+WHERE theme_id IN (SELECT id FROM theme WHERE name IS NOT NULL AND id NOT IN (SELECT MIN(id) FROM theme GROUP BY name));
+DELETE FROM theme WHERE name IS NOT NULL AND id NOT IN (SELECT MIN(id) FROM theme GROUP BY name);
+
+-- Databases from before fk_reservation_theme may hold bookings of themes that were deleted since.
+INSERT INTO reservation_quarantine (id, date, time, name, theme_id, reason)
+SELECT id, date, time, name, theme_id, 'MISSING_THEME' FROM RESERVATION
+WHERE theme_id NOT IN (SELECT id FROM theme);
+DELETE FROM RESERVATION WHERE id IN (SELECT id FROM reservation_quarantine WHERE reason = 'MISSING_THEME');
+
+-- Databases from before uk_reservation_slot may hold several bookings of one slot; the earliest booking keeps it.
+INSERT INTO reservation_quarantine (id, date, time, name, theme_id, reason)
+SELECT id, date, time, name, theme_id, 'DUPLICATE_SLOT' FROM RESERVATION
+WHERE date IS NOT NULL AND time IS NOT NULL
+  AND id NOT IN (SELECT MIN(id) FROM RESERVATION GROUP BY theme_id, date, time);
+DELETE FROM RESERVATION WHERE id IN (SELECT id FROM reservation_quarantine WHERE reason = 'DUPLICATE_SLOT');
+
+ALTER TABLE theme ADD CONSTRAINT IF NOT EXISTS uk_theme_name UNIQUE (name);
+ALTER TABLE RESERVATION ADD CONSTRAINT IF NOT EXISTS uk_reservation_slot UNIQUE (theme_id, date, time);
+ALTER TABLE RESERVATION ADD CONSTRAINT IF NOT EXISTS fk_reservation_theme FOREIGN KEY (theme_id) REFERENCES theme (id);
+ALTER TABLE reservation_archive ADD CONSTRAINT IF NOT EXISTS fk_reservation_archive_theme FOREIGN KEY (theme_id) REFERENCES theme (id);
+
+-- Lets the archival job find its next chunk of past reservations without a full scan.
+CREATE INDEX IF NOT EXISTS idx_reservation_date ON RESERVATION (date);
@@ -0,0 +1,40 @@
+package kakao.controller;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcceptEncodingTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "gzip",
+            "GZIP",
+            "x-gzip",
+            "deflate, gzip;q=0.5",
+            "gzip ; q=1.0, identity",
+            "*",
+            "br, *;q=0.1",
+    })
+    void gzipIsAcceptable(String acceptEncoding) {
+        assertThat(ThemeController.acceptsGzip(acceptEncoding)).isTrue();
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @CsvSource(delimiter = '|', value = {
+            "identity",
+            "gzip;q=0",
+            "gzip; q=0.000, identity",
+            "deflate, br",
+            "*;q=0",
+            "gzip;q=0, *",
+            "gzip;q=zero",
+            "gzipped",
+    })
+    void gzipIsNotAcceptable(String acceptEncoding) {
+        assertThat(ThemeController.acceptsGzip(acceptEncoding)).isFalse();
+    }
+}
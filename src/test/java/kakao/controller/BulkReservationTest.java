@@ -0,0 +1,89 @@
+package kakao.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static kakao.support.Fixtures.createTheme;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BulkReservationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void malformedAndIncompleteLinesFailAloneInNdjson() {
+        Long themeId = createTheme(restTemplate);
+        String body = reservation("2030-02-01", "10:00", themeId) + "\n"
+                + "{\"date\": \"2030-02-01\", \"time\": \n"
+                + "{\"time\": \"11:00\", \"name\": \"guest\", \"themeId\": " + themeId + "}\n"
+                + "{\"date\": \"2030-02-01\", \"time\": \"12:00\", \"name\": null, \"themeId\": " + themeId + "}\n"
+                + reservation("2030-02-01", "13:00", themeId) + "\n";
+
+        List<Map<String, Object>> results = post(body, MediaType.APPLICATION_NDJSON);
+
+        assertThat(results).hasSize(5);
+        assertThat(results.get(0)).containsKey("id");
+        assertThat(results.get(1)).containsEntry("code", "INVALID_RESERVATION_REQUEST");
+        assertThat(results.get(2)).containsEntry("code", "INVALID_RESERVATION_REQUEST");
+        assertThat(results.get(3)).containsEntry("code", "INVALID_RESERVATION_REQUEST");
+        assertThat(results.get(4)).containsKey("id");
+    }
+
+    @Test
+    void invalidElementsFailAloneInJsonArray() {
+        Long themeId = createTheme(restTemplate);
+        String body = "["
+                + reservation("2030-02-02", "10:00", themeId) + ", "
+                + "{\"date\": \"2030-02-02\", \"time\": \"11:00\", \"name\": \"guest\"}, "
+                + "{\"date\": \"not-a-date\", \"time\": \"12:00\", \"name\": \"guest\", \"themeId\": " + themeId + "}, "
+                + reservation("2030-02-02", "13:00", themeId)
+                + "]";
+
+        List<Map<String, Object>> results = post(body, MediaType.APPLICATION_JSON);
+
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0)).containsKey("id");
+        assertThat(results.get(1)).containsEntry("code", "INVALID_RESERVATION_REQUEST");
+        assertThat(results.get(2)).containsEntry("code", "INVALID_RESERVATION_REQUEST");
+        assertThat(results.get(3)).containsKey("id");
+    }
+
+    @Test
+    void syntaxErrorInJsonArrayKeepsTheElementsBeforeIt() {
+        Long themeId = createTheme(restTemplate);
+        String body = "[" + reservation("2030-02-03", "10:00", themeId) + ", {\"date\": ]";
+
+        List<Map<String, Object>> results = post(body, MediaType.APPLICATION_JSON);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).containsKey("id");
+        assertThat(results.get(1)).containsEntry("code", "INVALID_RESERVATION_REQUEST");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> post(String body, MediaType contentType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        ResponseEntity<List> response = restTemplate.postForEntity("/reservations/bulk", new HttpEntity<>(body, headers), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private String reservation(String date, String time, Long themeId) {
+        return "{\"date\": \"" + date + "\", \"time\": \"" + time + "\", \"name\": \"guest\", \"themeId\": " + themeId + "}";
+    }
+}
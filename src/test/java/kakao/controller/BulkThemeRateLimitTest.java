@@ -0,0 +1,72 @@
+package kakao.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static kakao.support.Fixtures.createTheme;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The client budget is wide open here, so only the theme budget can turn items away.
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "roomescape.rate-limit.enabled=true",
+        "roomescape.rate-limit.booking.rate=1000",
+        "roomescape.rate-limit.booking.burst=1000",
+        "roomescape.rate-limit.lookup.rate=1000",
+        "roomescape.rate-limit.lookup.burst=1000",
+        "roomescape.rate-limit.theme-booking.rate=0.001",
+        "roomescape.rate-limit.theme-booking.burst=3"})
+class BulkThemeRateLimitTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void everyBulkItemDrawsFromItsThemeBudget() {
+        Long themeId = createTheme(restTemplate);
+        Long otherThemeId = createTheme(restTemplate);
+        StringBuilder body = new StringBuilder();
+        for (int hour = 10; hour < 15; hour++) {
+            body.append(reservation(hour + ":00", themeId)).append('\n');
+        }
+        body.append(reservation("10:00", otherThemeId)).append('\n');
+
+        List<Map<String, Object>> results = post(body.toString());
+
+        assertThat(results).hasSize(6);
+        for (int i = 0; i < 3; i++) {
+            assertThat(results.get(i)).containsKey("id");
+        }
+        assertThat(results.get(3)).containsEntry("code", "TOO_MANY_REQUESTS");
+        assertThat(results.get(4)).containsEntry("code", "TOO_MANY_REQUESTS");
+        assertThat(results.get(5)).containsKey("id");
+
+        ResponseEntity<Map> single = restTemplate.postForEntity("/reservations",
+                Map.of("date", "2030-04-01", "time", "20:00", "name", "guest", "themeId", themeId), Map.class);
+        assertThat(single.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> post(String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+        ResponseEntity<List> response = restTemplate.postForEntity("/reservations/bulk", new HttpEntity<>(body, headers), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private String reservation(String time, Long themeId) {
+        return "{\"date\": \"2030-04-01\", \"time\": \"" + time + "\", \"name\": \"guest\", \"themeId\": " + themeId + "}";
+    }
+}
@@ -0,0 +1,98 @@
+package kakao.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kakao.exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+    private static final Map<String, String> BODY = Map.of("time", "13:00");
+
+    private final IdempotencyStore idempotencyStore = new IdempotencyStore(new ObjectMapper(), 100, Duration.ofHours(1));
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void retryWithTheSameBodyReplaysTheFirstResponse() {
+        ResponseEntity<Integer> first = execute("client-a", Map.of("time", "13:00"));
+        ResponseEntity<Integer> retry = execute("client-a", Map.of("time", "13:00"));
+
+        assertThat(retry.getBody()).isEqualTo(first.getBody());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void keysAreScopedByClient() {
+        execute("client-a", Map.of("time", "13:00"));
+        execute("client-b", Map.of("time", "13:00"));
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void reusingAKeyForADifferentBodyIsRefused() {
+        execute("client-a", Map.of("time", "13:00"));
+
+        assertThatThrownBy(() -> execute("client-a", Map.of("time", "14:00")))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void retryWaitingOnAFailingFirstAttemptIsReleasedAndTheKeyIsFreed() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch failFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> idempotencyStore.execute("reservations", "client-a", "key-1", BODY, () -> {
+                firstStarted.countDown();
+                await(failFirst);
+                throw new AssertionError("handler failed");
+            }));
+            firstStarted.await();
+
+            AtomicReference<Thread> waiter = new AtomicReference<>();
+            Future<ResponseEntity<Integer>> retry = executor.submit(() -> {
+                waiter.set(Thread.currentThread());
+                return execute("client-a", BODY);
+            });
+            // The retry parks on the first attempt's response before that attempt fails.
+            while (waiter.get() == null || waiter.get().getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+            failFirst.countDown();
+
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+            assertThatThrownBy(() -> retry.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(AssertionError.class);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(execute("client-a", BODY).getBody()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ResponseEntity<Integer> execute(String client, Object body) {
+        return idempotencyStore.execute("reservations", client, "key-1", body,
+                () -> ResponseEntity.ok(executions.incrementAndGet()));
+    }
+}
@@ -0,0 +1,92 @@
+package kakao.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static kakao.support.Fixtures.createTheme;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class IdempotentBookingTest {
+    private static final int RETRY_COUNT = 50;
+    private static final int CLIENT_COUNT = 16;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void concurrentRetriesBookOnceAndShareTheResponse() throws Exception {
+        Long themeId = createTheme(restTemplate);
+        HttpEntity<Map<String, Object>> booking = withKey(UUID.randomUUID().toString(), reservation(themeId, "13:00"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENT_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<String>>> responses = new ArrayList<>(RETRY_COUNT);
+        try {
+            for (int i = 0; i < RETRY_COUNT; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return restTemplate.postForEntity("/reservations", booking, String.class);
+                }));
+            }
+            start.countDown();
+
+            Set<URI> locations = new HashSet<>();
+            for (Future<ResponseEntity<String>> future : responses) {
+                ResponseEntity<String> response = future.get();
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+                locations.add(response.getHeaders().getLocation());
+            }
+            assertThat(locations).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ResponseEntity<Map> page = restTemplate.getForEntity("/themes/" + themeId + "/reservations?from=2030-01-01&to=2030-01-01", Map.class);
+        assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((List<?>) page.getBody().get("reservations")).hasSize(1);
+    }
+
+    @Test
+    void reusingAKeyForADifferentBookingIsRejected() {
+        Long themeId = createTheme(restTemplate);
+        String key = UUID.randomUUID().toString();
+
+        ResponseEntity<String> first = restTemplate.postForEntity("/reservations", withKey(key, reservation(themeId, "13:00")), String.class);
+        ResponseEntity<Map> second = restTemplate.postForEntity("/reservations", withKey(key, reservation(themeId, "14:00")), Map.class);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(second.getBody()).containsEntry("code", "IDEMPOTENCY_KEY_REUSED");
+    }
+
+    private static Map<String, Object> reservation(Long themeId, String time) {
+        return Map.of("date", "2030-01-01", "time", time, "name", "guest", "themeId", themeId);
+    }
+
+    private static HttpEntity<Map<String, Object>> withKey(String key, Map<String, Object> body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(IdempotencyStore.HEADER, key);
+        return new HttpEntity<>(body, headers);
+    }
+}
@@ -0,0 +1,102 @@
+package kakao.controller;
+
+import kakao.config.RateLimitProperties;
+import kakao.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+    private static final int THREAD_COUNT = 16;
+    private static final int ATTEMPTS_PER_THREAD = 1_000;
+    private static final long NOW = 1_000_000_000L;
+
+    @Test
+    void contendedBucketAdmitsExactlyItsBurst() throws Exception {
+        TokenBucket bucket = new TokenBucket(new RateLimitProperties.Limit(10, 50), NOW);
+
+        assertThat(hammer(() -> bucket.tryAcquire(NOW))).isEqualTo(50);
+    }
+
+    @Test
+    void contendedBucketRefillsAtItsRate() throws Exception {
+        TokenBucket bucket = new TokenBucket(new RateLimitProperties.Limit(10, 50), NOW);
+        hammer(() -> bucket.tryAcquire(NOW));
+
+        // Ten tokens a second: half a second later exactly five more requests fit, however many threads race for them.
+        assertThat(hammer(() -> bucket.tryAcquire(NOW + 500_000_000L))).isEqualTo(5);
+    }
+
+    @Test
+    void clientDrainingItsBudgetLeavesOtherClientsTheirOwn() throws Exception {
+        TokenBuckets<String> buckets = new TokenBuckets<>(new RateLimitProperties.Limit(1, 20), 1_000);
+
+        int noisyAdmitted = hammer(() -> buckets.tryAcquire("noisy", NOW));
+        int quietAdmitted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (buckets.tryAcquire("quiet", NOW)) {
+                quietAdmitted++;
+            }
+        }
+
+        assertThat(noisyAdmitted).isEqualTo(20);
+        assertThat(quietAdmitted).isEqualTo(20);
+    }
+
+    @Test
+    void bookingStormDoesNotStarveLookups() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(true);
+        properties.setBooking(new RateLimitProperties.Limit(0.001, 3));
+        RateLimiter rateLimiter = new RateLimiter(properties);
+
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquireBooking("client");
+        }
+        assertThatThrownBy(() -> rateLimiter.acquireBooking("client")).isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> rateLimiter.acquireLookup("client")).doesNotThrowAnyException();
+    }
+
+    // Runs the attempt from many threads at once and returns how many of them were admitted.
+    private static int hammer(Attempt attempt) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> admitted = new ArrayList<>(THREAD_COUNT);
+        try {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                admitted.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int j = 0; j < ATTEMPTS_PER_THREAD; j++) {
+                        if (attempt.tryAcquire()) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> future : admitted) {
+                total += future.get();
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface Attempt {
+        boolean tryAcquire();
+    }
+}
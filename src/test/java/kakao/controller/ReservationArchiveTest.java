@@ -0,0 +1,79 @@
+package kakao.controller;
+
+import kakao.service.ReservationArchiver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static kakao.support.Fixtures.createTheme;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "roomescape.archive.enabled=true")
+class ReservationArchiveTest {
+    // Far enough in the past that archiving before it moves only what this test booked.
+    private static final LocalDate ARCHIVED_DATE = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ReservationArchiver reservationArchiver;
+
+    @Test
+    void archivedReservationCanBeLookedUpButNotCancelled() {
+        Long themeId = createTheme(restTemplate);
+        String reservationPath = restTemplate.postForLocation("/reservations",
+                Map.of("date", ARCHIVED_DATE.toString(), "time", "10:00", "name", "guest", "themeId", themeId)).getPath();
+        reservationArchiver.archiveBefore(ARCHIVED_DATE.plusDays(1));
+
+        assertThat(restTemplate.getForEntity(reservationPath, Map.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<Map> cancel = restTemplate.exchange(reservationPath, HttpMethod.DELETE, null, Map.class);
+        assertThat(cancel.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(cancel.getBody()).containsEntry("code", "RESERVATION_ARCHIVED");
+    }
+
+    @Test
+    void rangesReachingIntoTheArchiveAreRefused() {
+        Long themeId = createTheme(restTemplate);
+        LocalDate cutoff = reservationArchiver.cutoff();
+        String archivedRange = "?from=" + cutoff.minusDays(1) + "&to=" + cutoff;
+
+        assertArchivedDateRange(restTemplate.getForEntity("/themes/" + themeId + "/reservations" + archivedRange, Map.class));
+        HttpHeaders ndjson = new HttpHeaders();
+        ndjson.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        assertArchivedDateRange(restTemplate.exchange("/themes/" + themeId + "/reservations/export" + archivedRange,
+                HttpMethod.GET, new HttpEntity<>(ndjson), Map.class));
+        assertArchivedDateRange(restTemplate.getForEntity("/themes/" + themeId + "/availability" + archivedRange, Map.class));
+    }
+
+    @Test
+    void rangesFromTheCutoffOnAreServed() {
+        Long themeId = createTheme(restTemplate);
+        LocalDate cutoff = reservationArchiver.cutoff();
+        String liveRange = "?from=" + cutoff + "&to=" + cutoff.plusDays(1);
+
+        assertThat(restTemplate.getForEntity("/themes/" + themeId + "/reservations" + liveRange, Map.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(restTemplate.getForEntity("/themes/" + themeId + "/availability" + liveRange, String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    private void assertArchivedDateRange(ResponseEntity<Map> response) {
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).containsEntry("code", "ARCHIVED_DATE_RANGE");
+    }
+}
@@ -0,0 +1,63 @@
+package kakao.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static kakao.support.Fixtures.createTheme;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReservationConcurrencyTest {
+    private static final int REQUEST_COUNT = 500;
+    private static final int CLIENT_COUNT = 64;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void onlyOneOfManyConcurrentBookingsForTheSameSlotSucceeds() throws Exception {
+        Long themeId = createTheme(restTemplate);
+        Map<String, Object> reservation = Map.of("date", "2030-01-01", "time", "13:00", "name", "guest", "themeId", themeId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENT_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<Map>>> responses = new ArrayList<>(REQUEST_COUNT);
+        try {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return restTemplate.postForEntity("/reservations", reservation, Map.class);
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            for (Future<ResponseEntity<Map>> future : responses) {
+                ResponseEntity<Map> response = future.get();
+                if (response.getStatusCode() == HttpStatus.CREATED) {
+                    created++;
+                    continue;
+                }
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                assertThat(response.getBody()).containsEntry("code", "DUPLICATE_RESERVATION");
+            }
+            assertThat(created).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package kakao.controller;
+
+import kakao.support.StatementRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static kakao.support.Fixtures.createTheme;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReservationLookupStatementTest {
+    private static final StatementRecorder STATEMENT_RECORDER = new StatementRecorder();
+
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? STATEMENT_RECORDER.wrap((DataSource) bean) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private String reservationPath;
+
+    @BeforeEach
+    void setUp() {
+        Long themeId = createTheme(restTemplate);
+        reservationPath = restTemplate.postForLocation("/reservations",
+                Map.of("date", "2030-03-01", "time", "10:00", "name", "guest", "themeId", themeId)).getPath();
+        STATEMENT_RECORDER.clear();
+    }
+
+    @Test
+    void lookUpRunsExactlyOneStatement() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(reservationPath, Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(STATEMENT_RECORDER.statements()).hasSize(1);
+    }
+
+    @Test
+    void revalidationRunsExactlyOneStatement() {
+        String eTag = restTemplate.getForEntity(reservationPath, Map.class).getHeaders().getETag();
+        STATEMENT_RECORDER.clear();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        ResponseEntity<Map> response = restTemplate.exchange(reservationPath, HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(STATEMENT_RECORDER.statements()).hasSize(1);
+    }
+
+    @Test
+    void tagWithoutThisProcessNonceIsNotHonoured() {
+        String id = reservationPath.substring(reservationPath.lastIndexOf('/') + 1);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"reservation-" + id + "\"");
+        ResponseEntity<Map> response = restTemplate.exchange(reservationPath, HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
@@ -0,0 +1,96 @@
+package kakao.repository;
+
+import kakao.support.StatementRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static kakao.support.Fixtures.themeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CachingThemeRepositoryTest {
+    @Autowired
+    private DataSource dataSource;
+
+    private final StatementRecorder statementRecorder = new StatementRecorder();
+    private final List<Long> createdThemeIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (Long themeId : createdThemeIds) {
+            jdbcTemplate.update("DELETE FROM theme WHERE id=?", themeId);
+        }
+    }
+
+    @Test
+    void repeatedReadsAreServedWithoutTheDatabase() {
+        CachingThemeRepository themeRepository = cachingThemeRepository(100);
+        Long themeId = create(themeRepository);
+        String name = themeRepository.findById(themeId).orElseThrow().getName();
+        statementRecorder.clear();
+
+        assertThat(themeRepository.findById(themeId)).isPresent();
+        assertThat(themeRepository.findByName(name)).isPresent();
+        assertThat(themeRepository.existsById(themeId)).isTrue();
+        assertThat(themeRepository.findIdsByIdIn(Set.of(themeId))).containsExactly(themeId);
+
+        assertThat(statementRecorder.count()).isZero();
+        assertThat(themeRepository.getHits()).isEqualTo(4);
+    }
+
+    @Test
+    void deletingAThemeInvalidatesEveryKeyItWasCachedUnder() {
+        CachingThemeRepository themeRepository = cachingThemeRepository(100);
+        Long themeId = create(themeRepository);
+        String name = themeRepository.findById(themeId).orElseThrow().getName();
+        themeRepository.findIdsByIdIn(Set.of(themeId));
+
+        themeRepository.deleteById(themeId);
+
+        assertThat(themeRepository.findById(themeId)).isEmpty();
+        assertThat(themeRepository.findByName(name)).isEmpty();
+        assertThat(themeRepository.existsById(themeId)).isFalse();
+        assertThat(themeRepository.findIdsByIdIn(Set.of(themeId))).isEmpty();
+    }
+
+    @Test
+    void theCacheKeepsAtMostMaxSizeEntriesPerKey() {
+        CachingThemeRepository themeRepository = cachingThemeRepository(2);
+        Long first = create(themeRepository);
+        Long second = create(themeRepository);
+        Long third = create(themeRepository);
+        themeRepository.findIdsByIdIn(Set.of(first));
+        themeRepository.findIdsByIdIn(Set.of(second));
+        themeRepository.findIdsByIdIn(Set.of(third));
+        statementRecorder.clear();
+
+        assertThat(themeRepository.existsById(first)).isTrue();
+
+        assertThat(statementRecorder.count()).isEqualTo(1);
+        assertThat(themeRepository.getEvictions()).isEqualTo(2);
+    }
+
+    private CachingThemeRepository cachingThemeRepository(int maxSize) {
+        JdbcTemplateThemeRepository delegate = new JdbcTemplateThemeRepository(new JdbcTemplate(statementRecorder.wrap(dataSource)));
+        return new CachingThemeRepository(delegate, new SimpleMeterRegistry(), maxSize);
+    }
+
+    private Long create(ThemeRepository themeRepository) {
+        Long themeId = themeRepository.create(themeRequest());
+        createdThemeIds.add(themeId);
+        return themeId;
+    }
+}
@@ -0,0 +1,77 @@
+package kakao.repository;
+
+import kakao.exception.CustomRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static kakao.support.Fixtures.reservationRequest;
+import static kakao.support.Fixtures.themeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryReservationRepositoryTest {
+    private static final int ROUNDS = 2_000;
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+    private static final LocalTime TIME = LocalTime.of(13, 0);
+
+    private final InMemoryThemeRepository themeRepository = new InMemoryThemeRepository(Optional.empty());
+    private final InMemoryReservationRepository reservationRepository = new InMemoryReservationRepository(themeRepository, Optional.empty());
+
+    // Races a theme delete against a booking for that theme; a deleted theme must never be left with a reservation,
+    // and neither its tombstone nor its slot index may outlive the delete.
+    @Test
+    void themeDeleteAndBookingNeverLeaveAnOrphan() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Long themeId = themeRepository.create(themeRequest());
+                CountDownLatch start = new CountDownLatch(1);
+                CompletableFuture<Long> booking = CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    try {
+                        return reservationRepository.create(reservationRequest(themeId, DATE, TIME));
+                    } catch (CustomRuntimeException e) {
+                        return null;
+                    }
+                }, executor);
+                CompletableFuture<Boolean> delete = CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    try {
+                        reservationRepository.deleteThemeIfUnreserved(themeId, () -> themeRepository.deleteById(themeId));
+                        return true;
+                    } catch (CustomRuntimeException e) {
+                        return false;
+                    }
+                }, executor);
+                start.countDown();
+
+                Long reservationId = booking.get();
+                boolean deleted = delete.get();
+                assertThat(reservationId != null && deleted).as("round %d booked and deleted", round).isFalse();
+                assertThat(themeRepository.existsById(themeId)).isEqualTo(!deleted);
+                assertThat(reservationRepository.existsByThemeId(themeId)).isEqualTo(reservationId != null);
+                assertThat(reservationRepository.themesBeingDeleted()).isZero();
+                if (deleted) {
+                    assertThat(reservationRepository.hasSlotIndex(themeId)).as("round %d kept an index", round).isFalse();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package kakao.repository;
+
+import java.util.Optional;
+
+class InMemoryStoreContractTest extends StoreContractTest {
+    private final InMemoryThemeRepository themeRepository = new InMemoryThemeRepository(Optional.empty());
+    private final InMemoryReservationRepository reservationRepository = new InMemoryReservationRepository(themeRepository, Optional.empty());
+
+    @Override
+    protected ThemeRepository themeRepository() {
+        return themeRepository;
+    }
+
+    @Override
+    protected ReservationRepository reservationRepository() {
+        return reservationRepository;
+    }
+}
@@ -0,0 +1,29 @@
+package kakao.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// The repositories come from the context so createAll runs in its own @Transactional, as in the application.
+@JdbcTest
+@Import({JdbcTemplateReservationRepository.class, JdbcTemplateThemeRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcStoreContractTest extends StoreContractTest {
+    @Autowired
+    private JdbcTemplateThemeRepository themeRepository;
+
+    @Autowired
+    private JdbcTemplateReservationRepository reservationRepository;
+
+    @Override
+    protected ThemeRepository themeRepository() {
+        return themeRepository;
+    }
+
+    @Override
+    protected ReservationRepository reservationRepository() {
+        return reservationRepository;
+    }
+}
@@ -0,0 +1,149 @@
+package kakao.repository;
+
+import kakao.model.DateRange;
+import kakao.model.ReservationCursor;
+import kakao.model.ReservationSlot;
+import kakao.support.StatementRecorder;
+import kakao.support.StatementRecorder.RecordedStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static kakao.support.Fixtures.reservationRequest;
+import static kakao.support.Fixtures.themeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Replays every statement a repository method sends through EXPLAIN and fails when one of them reads a whole table.
+@JdbcTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanTest {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+    private static final int DAYS = 20;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final StatementRecorder statementRecorder = new StatementRecorder();
+    private JdbcTemplate jdbcTemplate;
+    private JdbcTemplateReservationRepository reservationRepository;
+    private JdbcTemplateThemeRepository themeRepository;
+    private JdbcTemplateReservationArchiveRepository archiveRepository;
+    private Long themeId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        JdbcTemplate recordingJdbcTemplate = new JdbcTemplate(statementRecorder.wrap(dataSource));
+        reservationRepository = new JdbcTemplateReservationRepository(recordingJdbcTemplate);
+        themeRepository = new JdbcTemplateThemeRepository(recordingJdbcTemplate);
+        archiveRepository = new JdbcTemplateReservationArchiveRepository(recordingJdbcTemplate);
+
+        themeId = seedTheme();
+        seedTheme();
+        statementRecorder.clear();
+    }
+
+    @Test
+    void reservationLookupsSeekAnIndex() {
+        Long id = reservationRepository.create(reservationRequest(themeId, FIRST_DATE.plusDays(DAYS), LocalTime.of(9, 0)));
+        reservationRepository.findById(id);
+        reservationRepository.findWithThemeById(id);
+        reservationRepository.existsById(id);
+        reservationRepository.findByDateAndTimeAndThemeId(FIRST_DATE, LocalTime.of(10, 0), themeId);
+        reservationRepository.existsByThemeId(themeId);
+        reservationRepository.deleteById(id);
+
+        assertEveryStatementSeeksAnIndex();
+    }
+
+    @Test
+    void bulkSlotCheckSeeksAnIndex() {
+        reservationRepository.findSlotsIn(List.of(
+                new ReservationSlot(themeId, FIRST_DATE, LocalTime.of(10, 0)),
+                new ReservationSlot(themeId, FIRST_DATE.plusDays(3), LocalTime.of(12, 0)),
+                new ReservationSlot(themeId + 1, FIRST_DATE.plusDays(5), LocalTime.of(14, 0))));
+        reservationRepository.createAll(List.of(
+                reservationRequest(themeId, FIRST_DATE.plusDays(DAYS), LocalTime.of(10, 0)),
+                reservationRequest(themeId, FIRST_DATE.plusDays(DAYS), LocalTime.of(11, 0))));
+
+        assertEveryStatementSeeksAnIndex();
+    }
+
+    @Test
+    void rangeQueriesSeekAnIndex() {
+        DateRange dateRange = new DateRange(FIRST_DATE, FIRST_DATE.plusDays(DAYS - 1));
+        reservationRepository.findPageByThemeId(themeId, dateRange, null, 10);
+        reservationRepository.streamByThemeId(themeId, dateRange, reservation -> {});
+        reservationRepository.findSlotsByThemeId(themeId, dateRange);
+
+        assertEveryStatementSeeksAnIndex();
+    }
+
+    @Test
+    void keysetPageSeeksFromTheCursor() {
+        DateRange dateRange = new DateRange(FIRST_DATE, FIRST_DATE.plusDays(DAYS - 1));
+        reservationRepository.findPageByThemeId(themeId, dateRange, new ReservationCursor(FIRST_DATE.plusDays(10), LocalTime.of(12, 0), 1L), 10);
+
+        assertEveryStatementSeeksAnIndex();
+        // ?4 is the cursor date; it has to bound the index range, not just filter the rows read from the start of dateRange.
+        assertThat(explain(statementRecorder.statements().get(0))).containsPattern("DATE\"?\\s*>=\\s*\\?4");
+    }
+
+    @Test
+    void themeQueriesSeekAnIndex() {
+        Long createdId = themeRepository.create(themeRequest());
+        themeRepository.findById(themeId);
+        themeRepository.existsById(themeId);
+        themeRepository.findByName("missing");
+        themeRepository.findIdsByIdIn(List.of(themeId, createdId));
+        themeRepository.deleteById(createdId);
+
+        assertEveryStatementSeeksAnIndex();
+    }
+
+    @Test
+    void archiveQueriesSeekAnIndex() {
+        archiveRepository.archiveChunkBefore(FIRST_DATE.plusDays(1), 100);
+        archiveRepository.findWithThemeById(1L);
+        archiveRepository.existsById(1L);
+
+        assertEveryStatementSeeksAnIndex();
+    }
+
+    private void assertEveryStatementSeeksAnIndex() {
+        List<RecordedStatement> statements = statementRecorder.statements();
+        assertThat(statements).isNotEmpty();
+        for (RecordedStatement statement : statements) {
+            assertThat(explain(statement)).as(statement.getSql()).doesNotContain("tableScan");
+        }
+    }
+
+    private String explain(RecordedStatement statement) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + statement.getSql(), String.class, statement.getParameters().toArray());
+    }
+
+    // Every theme gets one booking per hour from 10:00 to 21:00 over DAYS days, so the tables are big enough for a scan to lose.
+    private Long seedTheme() {
+        Long id = themeRepository.create(themeRequest());
+        List<Object[]> rows = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            for (int hour = 10; hour < 22; hour++) {
+                rows.add(new Object[]{Date.valueOf(FIRST_DATE.plusDays(day)), Time.valueOf(LocalTime.of(hour, 0)), "guest", id});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation (date, time, name, theme_id) VALUES (?, ?, ?, ?)", rows);
+        return id;
+    }
+}
@@ -0,0 +1,261 @@
+package kakao.repository;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.request.ThemeRequest;
+import kakao.exception.InvalidReservationRequestException;
+import kakao.exception.InvalidThemeRequestException;
+import kakao.model.Reservation;
+import kakao.model.Theme;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static kakao.support.Fixtures.reservationRequest;
+import static kakao.support.Fixtures.themeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationJournalTest {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+    private static final int ACKS_BEFORE_KILL = 500;
+    private static final String ACK_TERMINATOR = ";";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void themesAndReservationsSurviveRestart() throws Exception {
+        Long themeId;
+        Long reservationId;
+        try (Store store = Store.open(directory)) {
+            themeId = store.themes.create(themeRequest("journaled"));
+            reservationId = store.reservations.create(reservation(0, themeId));
+        }
+
+        try (Store store = Store.open(directory)) {
+            assertThat(store.themes.findByName("journaled")).hasValueSatisfying(theme -> assertThat(theme.getId()).isEqualTo(themeId));
+            assertThat(store.reservations.findById(reservationId)).isPresent();
+            assertThat(store.reservations.existsByThemeId(themeId)).isTrue();
+        }
+    }
+
+    @Test
+    void deletedNewestIdsAreNotReissuedAfterSnapshot() throws Exception {
+        Long newestThemeId;
+        Long newestReservationId;
+        try (Store store = Store.open(directory)) {
+            Long themeId = store.themes.create(themeRequest("kept"));
+            newestThemeId = store.themes.create(themeRequest("deleted"));
+            store.reservations.create(reservation(0, themeId));
+            newestReservationId = store.reservations.create(reservation(1, themeId));
+
+            store.reservations.deleteById(newestReservationId);
+            store.themes.deleteById(newestThemeId);
+            store.journal.snapshot();
+        }
+
+        try (Store store = Store.open(directory)) {
+            Long themeId = store.themes.findByName("kept").orElseThrow().getId();
+            assertThat(store.themes.create(themeRequest("deleted"))).isGreaterThan(newestThemeId);
+            assertThat(store.reservations.create(reservation(1, themeId))).isGreaterThan(newestReservationId);
+        }
+    }
+
+    @Test
+    void tornTailIsDroppedAndLaterWritesGoToAFreshSegment() throws Exception {
+        Long themeId;
+        try (Store store = Store.open(directory)) {
+            themeId = store.themes.create(themeRequest("torn"));
+            store.reservations.create(reservation(0, themeId));
+        }
+        Path lastSegment = segments().get(segments().size() - 1);
+        Files.write(lastSegment, new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        Long reservationId;
+        try (Store store = Store.open(directory)) {
+            reservationId = store.reservations.create(reservation(1, themeId));
+        }
+
+        try (Store store = Store.open(directory)) {
+            assertThat(store.reservations.findById(reservationId)).isPresent();
+            assertThat(store.reservations.existsByThemeId(themeId)).isTrue();
+        }
+    }
+
+    @Test
+    void corruptRecordBeforeTheEndOfASegmentFailsRecovery() throws Exception {
+        try (Store store = Store.open(directory)) {
+            Long themeId = store.themes.create(themeRequest("corrupt"));
+            store.reservations.create(reservation(0, themeId));
+        }
+        Path lastSegment = segments().get(segments().size() - 1);
+        byte[] bytes = Files.readAllBytes(lastSegment);
+        // The type byte of the first record; the records after it were acknowledged, so this is not a torn tail.
+        bytes[2 * Integer.BYTES] ^= 0x7F;
+        Files.write(lastSegment, bytes);
+
+        assertThatThrownBy(() -> Store.open(directory)).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void oversizedFrameBeforeTheEndOfASegmentFailsRecovery() throws Exception {
+        try (Store store = Store.open(directory)) {
+            store.themes.create(themeRequest("oversized"));
+        }
+        Path lastSegment = segments().get(segments().size() - 1);
+        int length = (1 << 16) + 1;
+        ByteBuffer frame = ByteBuffer.allocate(2 * Integer.BYTES + length + 2 * Integer.BYTES);
+        frame.putInt(length).putInt(0).position(frame.capacity() - Integer.BYTES).putInt(1);
+        Files.write(lastSegment, frame.array(), StandardOpenOption.APPEND);
+
+        assertThatThrownBy(() -> Store.open(directory)).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void themeWithoutDescriptionSurvivesRestart() throws Exception {
+        ThemeRequest noDesc = themeRequest("no-desc");
+        noDesc.setDesc(null);
+        try (Store store = Store.open(directory)) {
+            store.themes.create(noDesc);
+        }
+
+        try (Store store = Store.open(directory)) {
+            assertThat(store.themes.findByName("no-desc")).hasValueSatisfying(theme -> assertThat(theme.getDesc()).isNull());
+        }
+    }
+
+    @Test
+    void valuesTheSchemaWouldRefuseAreRejectedBeforeTheJournal() throws Exception {
+        try (Store store = Store.open(directory)) {
+            assertThatThrownBy(() -> store.themes.create(themeRequest("x".repeat(40_000))))
+                    .isInstanceOf(InvalidThemeRequestException.class);
+            ThemeRequest longDesc = themeRequest("long-desc");
+            longDesc.setDesc("x".repeat(256));
+            assertThatThrownBy(() -> store.themes.create(longDesc)).isInstanceOf(InvalidThemeRequestException.class);
+
+            Long themeId = store.themes.create(themeRequest("kept"));
+            ReservationRequest longName = reservation(0, themeId);
+            longName.setName("x".repeat(21));
+            assertThatThrownBy(() -> store.reservations.create(longName)).isInstanceOf(InvalidReservationRequestException.class);
+            assertThat(store.reservations.existsByThemeId(themeId)).isFalse();
+            assertThat(store.themes.findAll()).hasSize(1);
+        }
+
+        try (Store store = Store.open(directory)) {
+            assertThat(store.themes.findAll()).extracting(Theme::getName).containsExactly("kept");
+        }
+    }
+
+    // Kills a writer JVM while it is booking and checks that every booking it acknowledged is recovered.
+    @Test
+    void everyAcknowledgedBookingSurvivesAKillMidWrite() throws Exception {
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(java.toString(), "-cp", System.getProperty("java.class.path"),
+                CrashingWriter.class.getName(), directory.toString())
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+
+        Set<Long> acknowledged = new HashSet<>();
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                // A line cut off by the kill has no terminator and was not acknowledged in full.
+                if (!line.endsWith(ACK_TERMINATOR)) {
+                    continue;
+                }
+                acknowledged.add(Long.valueOf(line.substring(0, line.length() - ACK_TERMINATOR.length())));
+                if (acknowledged.size() == ACKS_BEFORE_KILL) {
+                    process.destroyForcibly();
+                }
+            }
+        } finally {
+            process.destroyForcibly();
+            assertThat(process.waitFor(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(acknowledged).hasSizeGreaterThanOrEqualTo(ACKS_BEFORE_KILL);
+        try (Store store = Store.open(directory)) {
+            for (Long id : acknowledged) {
+                Optional<Reservation> reservation = store.reservations.findById(id);
+                assertThat(reservation).as("reservation %d", id).isPresent();
+                assertThat(store.themes.existsById(reservation.get().getThemeId())).isTrue();
+            }
+        }
+    }
+
+    private List<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    // Every n gets its own slot, 24 a day.
+    private static ReservationRequest reservation(int n, Long themeId) {
+        return reservationRequest(themeId, FIRST_DATE.plusDays(n / 24), LocalTime.of(n % 24, 0));
+    }
+
+    private static class Store implements AutoCloseable {
+        private final ReservationJournal journal;
+        private final InMemoryThemeRepository themes;
+        private final InMemoryReservationRepository reservations;
+
+        private Store(ReservationJournal journal) {
+            this.journal = journal;
+            this.themes = new InMemoryThemeRepository(Optional.of(journal));
+            this.reservations = new InMemoryReservationRepository(themes, Optional.of(journal));
+        }
+
+        static Store open(Path directory) {
+            return new Store(new ReservationJournal(directory.toString(), 256, Duration.ofHours(1)));
+        }
+
+        @Override
+        public void close() throws Exception {
+            journal.close();
+        }
+    }
+
+    // Books from several threads and prints each id only after create() returned, i.e. after it was forced to disk.
+    static class CrashingWriter {
+        private static final int THREADS = 8;
+
+        public static void main(String[] args) {
+            Store store = Store.open(Paths.get(args[0]));
+            Long themeId = store.themes.create(themeRequest("crash"));
+            AtomicInteger next = new AtomicInteger();
+            for (int i = 0; i < THREADS; i++) {
+                new Thread(() -> {
+                    while (true) {
+                        Long id = store.reservations.create(reservation(next.getAndIncrement(), themeId));
+                        synchronized (System.out) {
+                            System.out.println(id + ACK_TERMINATOR);
+                            System.out.flush();
+                        }
+                    }
+                }).start();
+            }
+        }
+    }
+}
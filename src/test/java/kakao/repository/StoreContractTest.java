@@ -0,0 +1,221 @@
+package kakao.repository;
+
+import kakao.controller.response.ReservationResponse;
+import kakao.exception.CorrespondingReservationExistException;
+import kakao.exception.DuplicatedReservationException;
+import kakao.exception.DuplicatedThemeException;
+import kakao.exception.ReservationNotFoundException;
+import kakao.exception.ThemeNotFoundException;
+import kakao.model.DateRange;
+import kakao.model.ReservationCursor;
+import kakao.model.ReservationSlot;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static kakao.support.Fixtures.THEME_DESC;
+import static kakao.support.Fixtures.THEME_PRICE;
+import static kakao.support.Fixtures.reservationRequest;
+import static kakao.support.Fixtures.themeRequest;
+import static kakao.support.Fixtures.uniqueThemeName;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The behaviour every ReservationRepository/ThemeRepository pair must share; each store runs it through a subclass.
+// Tests create their own themes with unique names, so stores backed by a shared database need no cleanup.
+abstract class StoreContractTest {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2031, 1, 1);
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    protected abstract ThemeRepository themeRepository();
+
+    protected abstract ReservationRepository reservationRepository();
+
+    @Test
+    void createdThemeIsFoundByIdAndName() {
+        String name = uniqueThemeName();
+        Long id = themeRepository().create(themeRequest(name));
+
+        assertThat(themeRepository().findById(id)).hasValueSatisfying(theme -> {
+            assertThat(theme.getName()).isEqualTo(name);
+            assertThat(theme.getDesc()).isEqualTo(THEME_DESC);
+            assertThat(theme.getPrice()).isEqualTo(THEME_PRICE);
+        });
+        assertThat(themeRepository().findByName(name)).hasValueSatisfying(theme -> assertThat(theme.getId()).isEqualTo(id));
+        assertThat(themeRepository().existsById(id)).isTrue();
+        assertThat(themeRepository().findAll()).anySatisfy(theme -> assertThat(theme.getId()).isEqualTo(id));
+    }
+
+    @Test
+    void duplicateThemeNameIsRejected() {
+        String name = uniqueThemeName();
+        themeRepository().create(themeRequest(name));
+
+        assertThatThrownBy(() -> themeRepository().create(themeRequest(name))).isInstanceOf(DuplicatedThemeException.class);
+    }
+
+    @Test
+    void findIdsByIdInReturnsOnlyExistingThemes() {
+        Long id = createTheme();
+
+        assertThat(themeRepository().findIdsByIdIn(List.of(id, MISSING_ID))).containsExactly(id);
+        assertThat(themeRepository().findIdsByIdIn(List.of())).isEmpty();
+    }
+
+    @Test
+    void deletingAMissingThemeFails() {
+        assertThatThrownBy(() -> themeRepository().deleteById(MISSING_ID)).isInstanceOf(ThemeNotFoundException.class);
+    }
+
+    @Test
+    void createdReservationIsFoundWithItsTheme() {
+        Long themeId = createTheme();
+        Long id = reservationRepository().create(reservationRequest(themeId, FIRST_DATE, LocalTime.of(10, 0)));
+
+        assertThat(reservationRepository().findById(id)).hasValueSatisfying(reservation -> {
+            assertThat(reservation.getDate()).isEqualTo(FIRST_DATE);
+            assertThat(reservation.getTime()).isEqualTo(LocalTime.of(10, 0));
+            assertThat(reservation.getThemeId()).isEqualTo(themeId);
+        });
+        assertThat(reservationRepository().findWithThemeById(id)).hasValueSatisfying(response -> {
+            assertThat(response.getId()).isEqualTo(id);
+            assertThat(response.getThemeDesc()).isEqualTo(THEME_DESC);
+        });
+        assertThat(reservationRepository().existsById(id)).isTrue();
+        assertThat(reservationRepository().findByDateAndTimeAndThemeId(FIRST_DATE, LocalTime.of(10, 0), themeId))
+                .hasValueSatisfying(reservation -> assertThat(reservation.getId()).isEqualTo(id));
+        assertThat(reservationRepository().existsByThemeId(themeId)).isTrue();
+    }
+
+    @Test
+    void secondBookingOfASlotIsRejected() {
+        Long themeId = createTheme();
+        reservationRepository().create(reservationRequest(themeId, FIRST_DATE, LocalTime.of(10, 0)));
+
+        assertThatThrownBy(() -> reservationRepository().create(reservationRequest(themeId, FIRST_DATE, LocalTime.of(10, 0))))
+                .isInstanceOf(DuplicatedReservationException.class);
+    }
+
+    @Test
+    void bookingAMissingThemeIsRejected() {
+        assertThatThrownBy(() -> reservationRepository().create(reservationRequest(MISSING_ID, FIRST_DATE, LocalTime.of(10, 0))))
+                .isInstanceOf(ThemeNotFoundException.class);
+    }
+
+    @Test
+    void createAllReturnsIdsInRequestOrder() {
+        Long themeId = createTheme();
+        List<Long> ids = reservationRepository().createAll(List.of(
+                reservationRequest(themeId, FIRST_DATE, LocalTime.of(10, 0)),
+                reservationRequest(themeId, FIRST_DATE, LocalTime.of(11, 0))));
+
+        assertThat(ids).hasSize(2);
+        assertThat(reservationRepository().findById(ids.get(0)).orElseThrow().getTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(reservationRepository().findById(ids.get(1)).orElseThrow().getTime()).isEqualTo(LocalTime.of(11, 0));
+    }
+
+    @Test
+    void createAllIsAllOrNothing() {
+        Long themeId = createTheme();
+        reservationRepository().create(reservationRequest(themeId, FIRST_DATE, LocalTime.of(12, 0)));
+
+        assertThatThrownBy(() -> reservationRepository().createAll(List.of(
+                reservationRequest(themeId, FIRST_DATE, LocalTime.of(10, 0)),
+                reservationRequest(themeId, FIRST_DATE, LocalTime.of(12, 0)))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(reservationRepository().findByDateAndTimeAndThemeId(FIRST_DATE, LocalTime.of(10, 0), themeId)).isEmpty();
+    }
+
+    @Test
+    void pagesFollowTheKeysetCursor() {
+        Long themeId = createTheme();
+        for (int hour = 10; hour < 15; hour++) {
+            reservationRepository().create(reservationRequest(themeId, FIRST_DATE, LocalTime.of(hour, 0)));
+        }
+        reservationRepository().create(reservationRequest(themeId, FIRST_DATE.plusDays(10), LocalTime.of(10, 0)));
+        DateRange dateRange = new DateRange(FIRST_DATE, FIRST_DATE.plusDays(1));
+
+        List<ReservationResponse> first = reservationRepository().findPageByThemeId(themeId, dateRange, null, 2);
+        ReservationResponse last = first.get(first.size() - 1);
+        List<ReservationResponse> second = reservationRepository().findPageByThemeId(themeId, dateRange,
+                new ReservationCursor(last.getDate(), last.getTime(), last.getId()), 10);
+
+        assertThat(hoursOf(first)).containsExactly(10, 11);
+        assertThat(hoursOf(second)).containsExactly(12, 13, 14);
+    }
+
+    @Test
+    void streamVisitsTheRangeInOrder() {
+        Long themeId = createTheme();
+        reservationRepository().create(reservationRequest(themeId, FIRST_DATE.plusDays(1), LocalTime.of(10, 0)));
+        reservationRepository().create(reservationRequest(themeId, FIRST_DATE, LocalTime.of(15, 0)));
+        reservationRepository().create(reservationRequest(themeId, FIRST_DATE.plusDays(5), LocalTime.of(10, 0)));
+
+        List<ReservationResponse> streamed = new ArrayList<>();
+        reservationRepository().streamByThemeId(themeId, new DateRange(FIRST_DATE, FIRST_DATE.plusDays(1)), streamed::add);
+
+        assertThat(streamed).extracting(ReservationResponse::getDate).containsExactly(FIRST_DATE, FIRST_DATE.plusDays(1));
+    }
+
+    @Test
+    void findSlotsInReturnsOnlyBookedSlots() {
+        Long themeId = createTheme();
+        reservationRepository().create(reservationRequest(themeId, FIRST_DATE, LocalTime.of(10, 0)));
+        ReservationSlot booked = new ReservationSlot(themeId, FIRST_DATE, LocalTime.of(10, 0));
+        ReservationSlot free = new ReservationSlot(themeId, FIRST_DATE, LocalTime.of(11, 0));
+
+        assertThat(reservationRepository().findSlotsIn(List.of(booked, free))).containsExactly(booked);
+        assertThat(reservationRepository().findSlotsIn(List.of())).isEmpty();
+    }
+
+    @Test
+    void findSlotsByThemeIdTellsAMissingThemeFromAnEmptyOne() {
+        Long themeId = createTheme();
+        DateRange dateRange = new DateRange(FIRST_DATE, FIRST_DATE.plusDays(1));
+
+        assertThat(reservationRepository().findSlotsByThemeId(themeId, dateRange)).hasValue(List.of());
+        reservationRepository().create(reservationRequest(themeId, FIRST_DATE, LocalTime.of(10, 0)));
+        assertThat(reservationRepository().findSlotsByThemeId(themeId, dateRange))
+                .hasValue(List.of(new ReservationSlot(themeId, FIRST_DATE, LocalTime.of(10, 0))));
+        assertThat(reservationRepository().findSlotsByThemeId(MISSING_ID, dateRange)).isEmpty();
+    }
+
+    @Test
+    void deletedReservationIsGoneAndItsSlotFree() {
+        Long themeId = createTheme();
+        Long id = reservationRepository().create(reservationRequest(themeId, FIRST_DATE, LocalTime.of(10, 0)));
+
+        reservationRepository().deleteById(id);
+
+        assertThat(reservationRepository().findById(id)).isEmpty();
+        assertThatThrownBy(() -> reservationRepository().deleteById(id)).isInstanceOf(ReservationNotFoundException.class);
+        assertThat(reservationRepository().create(reservationRequest(themeId, FIRST_DATE, LocalTime.of(10, 0)))).isNotEqualTo(id);
+    }
+
+    @Test
+    void themeDeleteIsRejectedWhileReserved() {
+        Long themeId = createTheme();
+        Long id = reservationRepository().create(reservationRequest(themeId, FIRST_DATE, LocalTime.of(10, 0)));
+
+        assertThatThrownBy(() -> reservationRepository().deleteThemeIfUnreserved(themeId, () -> themeRepository().deleteById(themeId)))
+                .isInstanceOf(CorrespondingReservationExistException.class);
+        assertThat(themeRepository().existsById(themeId)).isTrue();
+
+        reservationRepository().deleteById(id);
+        reservationRepository().deleteThemeIfUnreserved(themeId, () -> themeRepository().deleteById(themeId));
+        assertThat(themeRepository().existsById(themeId)).isFalse();
+    }
+
+    private Long createTheme() {
+        return themeRepository().create(themeRequest());
+    }
+
+    private static List<Integer> hoursOf(List<ReservationResponse> reservations) {
+        return reservations.stream().map(reservation -> reservation.getTime().getHour()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,142 @@
+package kakao.service;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.response.BulkReservationResponse;
+import kakao.exception.CustomRuntimeException;
+import kakao.exception.ErrorCode;
+import kakao.exception.InvalidReservationRequestException;
+import kakao.model.Reservation;
+import kakao.repository.InMemoryReservationRepository;
+import kakao.repository.InMemoryThemeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static kakao.support.Fixtures.reservationRequest;
+import static kakao.support.Fixtures.themeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationWritePipelineTest {
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+
+    private ReservationWritePipeline pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.close();
+    }
+
+    @Test
+    void errorInTheBatchFailsEveryBookingAndKeepsTheWriterAlive() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        start(Duration.ofSeconds(5), requests -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new AssertionError("boom");
+            }
+            return created(requests);
+        });
+
+        CompletableFuture<Long> first = pipeline.submit(booking(10));
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+
+        assertThat(pipeline.submit(booking(11)).get(5, TimeUnit.SECONDS)).isEqualTo(11L);
+    }
+
+    @Test
+    void bookingNotSettledWithinMaxWaitTimesOutAndIsNeverWritten() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger written = new AtomicInteger();
+        start(Duration.ofMillis(200), requests -> {
+            awaitQuietly(release);
+            written.addAndGet(requests.size());
+            return created(requests);
+        });
+
+        CompletableFuture<Long> stuck = pipeline.submit(booking(10));
+        // Queued behind the stuck batch until its own max-wait has passed.
+        CompletableFuture<Long> queued = pipeline.submit(booking(11));
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(TimeoutException.class);
+        assertThatThrownBy(() -> stuck.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(TimeoutException.class);
+
+        release.countDown();
+        assertThat(pipeline.submit(booking(12)).get(5, TimeUnit.SECONDS)).isEqualTo(12L);
+        assertThat(written).hasValue(2);
+    }
+
+    @Test
+    void invalidBookingFailsWithTheSameExceptionAsTheDirectPath() {
+        InMemoryThemeRepository themeRepository = new InMemoryThemeRepository(Optional.empty());
+        InMemoryReservationRepository reservationRepository = new InMemoryReservationRepository(themeRepository, Optional.empty());
+        ReservationBatchWriter batchWriter = new ReservationBatchWriter(reservationRepository, themeRepository);
+        start(Duration.ofSeconds(5), batchWriter);
+        ReservationService reservationService = new ReservationServiceImpl(reservationRepository, batchWriter,
+                Optional.of(pipeline), Optional.empty(), Optional.empty());
+
+        ReservationRequest overLongName = reservationRequest(themeRepository.create(themeRequest()), DATE, LocalTime.of(10, 0));
+        overLongName.setName("x".repeat(Reservation.Column.NAME_LENGTH + 1));
+
+        assertThatThrownBy(() -> reservationService.book(overLongName)).isInstanceOf(InvalidReservationRequestException.class);
+    }
+
+    @Test
+    void anyOtherFailureKeepsItsErrorCode() {
+        start(Duration.ofSeconds(5), requests -> requests.stream()
+                .map(request -> BulkReservationResponse.failed(ErrorCode.TOO_MANY_REQUESTS))
+                .collect(Collectors.toList()));
+
+        assertThatThrownBy(() -> pipeline.submit(booking(10)).join())
+                .hasCauseInstanceOf(CustomRuntimeException.class)
+                .satisfies(e -> assertThat(((CustomRuntimeException) e.getCause()).getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS));
+    }
+
+    private void start(Duration maxWait, Function<List<ReservationRequest>, List<BulkReservationResponse>> write) {
+        start(maxWait, new ReservationBatchWriter(null, null) {
+            @Override
+            public List<BulkReservationResponse> write(List<ReservationRequest> reservationRequests) {
+                return write.apply(reservationRequests);
+            }
+        });
+    }
+
+    private void start(Duration maxWait, ReservationBatchWriter batchWriter) {
+        // A batch of one, so the stuck booking and the one queued behind it are never written together.
+        pipeline = new ReservationWritePipeline(batchWriter, 1, Duration.ofMillis(1), maxWait, 100);
+        pipeline.start();
+    }
+
+    // Each booking gets its hour as its id, so a caller can tell its own result apart.
+    private static List<BulkReservationResponse> created(List<ReservationRequest> requests) {
+        return requests.stream()
+                .map(request -> BulkReservationResponse.created((long) request.getTime().getHour()))
+                .collect(Collectors.toList());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // The batch writers here are stubs, so any theme id will do.
+    private static ReservationRequest booking(int hour) {
+        return reservationRequest(1L, DATE, LocalTime.of(hour, 0));
+    }
+}
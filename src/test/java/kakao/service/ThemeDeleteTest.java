@@ -0,0 +1,119 @@
+package kakao.service;
+
+import kakao.exception.CorrespondingReservationExistException;
+import kakao.repository.JdbcTemplateReservationRepository;
+import kakao.repository.JdbcTemplateThemeRepository;
+import kakao.support.StatementRecorder;
+import kakao.support.StatementRecorder.RecordedStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static kakao.support.Fixtures.themeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The foreign key rejects deleting a theme that still has reservations, so the service sends the DELETE alone.
+// Plans are checked with EXPLAIN, as in QueryPlanTest, rather than by timing the big theme against the small one.
+@JdbcTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ThemeDeleteTest {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+    private static final int BIG_THEME_RESERVATIONS = 100_000;
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final StatementRecorder statementRecorder = new StatementRecorder();
+    private JdbcTemplate jdbcTemplate;
+    private JdbcTemplateThemeRepository themeRepository;
+    private ThemeService themeService;
+    private final List<Long> seededThemeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        JdbcTemplate recordingJdbcTemplate = new JdbcTemplate(statementRecorder.wrap(dataSource));
+        themeRepository = new JdbcTemplateThemeRepository(recordingJdbcTemplate);
+        themeService = new ThemeServiceImpl(new JdbcTemplateReservationRepository(recordingJdbcTemplate), themeRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long themeId : seededThemeIds) {
+            jdbcTemplate.update("DELETE FROM reservation WHERE theme_id=?", themeId);
+            jdbcTemplate.update("DELETE FROM theme WHERE id=?", themeId);
+        }
+    }
+
+    @Test
+    void deletingAnUnreservedThemeIsOneStatement() {
+        Long themeId = themeRepository.create(themeRequest());
+        statementRecorder.clear();
+
+        themeService.delete(themeId);
+
+        assertThat(statementRecorder.count()).isEqualTo(1);
+        assertThat(themeRepository.existsById(themeId)).isFalse();
+    }
+
+    @Test
+    void rejectingAReservedThemeIsOneStatementWhateverItsSize() {
+        Long smallThemeId = seedTheme(1);
+        Long bigThemeId = seedTheme(BIG_THEME_RESERVATIONS);
+
+        for (Long themeId : List.of(smallThemeId, bigThemeId)) {
+            statementRecorder.clear();
+            assertThatThrownBy(() -> themeService.delete(themeId)).isInstanceOf(CorrespondingReservationExistException.class);
+            assertThat(statementRecorder.count()).isEqualTo(1);
+            assertThat(explain(statementRecorder.statements().get(0))).doesNotContain("tableScan");
+            assertThat(themeRepository.existsById(themeId)).isTrue();
+        }
+    }
+
+    // The DELETE's own plan does not show the foreign key check, which probes reservation by theme_id.
+    // It seeks rather than scans as long as theme_id leads an index on reservation.
+    @Test
+    void theForeignKeyCheckHasAnIndexToSeek() {
+        List<String> indexes = jdbcTemplate.queryForList("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                + "WHERE TABLE_NAME = 'RESERVATION' AND COLUMN_NAME = 'THEME_ID' AND ORDINAL_POSITION = 1", String.class);
+
+        assertThat(indexes).isNotEmpty();
+    }
+
+    private String explain(RecordedStatement statement) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + statement.getSql(), String.class, statement.getParameters().toArray());
+    }
+
+    // One booking per hour, around the clock, from FIRST_DATE on.
+    private Long seedTheme(int reservationCount) {
+        Long themeId = themeRepository.create(themeRequest());
+        seededThemeIds.add(themeId);
+        List<Object[]> rows = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < reservationCount; i++) {
+            rows.add(new Object[]{Date.valueOf(FIRST_DATE.plusDays(i / 24)), Time.valueOf(LocalTime.of(i % 24, 0)), "guest", themeId});
+            if (rows.size() == SEED_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO reservation (date, time, name, theme_id) VALUES (?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO reservation (date, time, name, theme_id) VALUES (?, ?, ?, ?)", rows);
+        }
+        return themeId;
+    }
+}
@@ -0,0 +1,57 @@
+package kakao.support;
+
+import kakao.controller.request.ReservationRequest;
+import kakao.controller.request.ThemeRequest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.UUID;
+
+// Requests and API calls shared by the tests. Theme names are unique per call, so tests sharing a database need no cleanup.
+public class Fixtures {
+    public static final String THEME_DESC = "fixture";
+    public static final int THEME_PRICE = 10_000;
+    public static final String GUEST = "guest";
+
+    private Fixtures() {}
+
+    // Short enough for Theme.Column.NAME_LENGTH.
+    public static String uniqueThemeName() {
+        return "theme-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public static ThemeRequest themeRequest() {
+        return themeRequest(uniqueThemeName());
+    }
+
+    public static ThemeRequest themeRequest(String name) {
+        ThemeRequest themeRequest = new ThemeRequest();
+        themeRequest.setName(name);
+        themeRequest.setDesc(THEME_DESC);
+        themeRequest.setPrice(THEME_PRICE);
+        return themeRequest;
+    }
+
+    public static ReservationRequest reservationRequest(Long themeId, LocalDate date, LocalTime time) {
+        ReservationRequest reservationRequest = new ReservationRequest();
+        reservationRequest.setDate(date);
+        reservationRequest.setTime(time);
+        reservationRequest.setName(GUEST);
+        reservationRequest.setThemeId(themeId);
+        return reservationRequest;
+    }
+
+    // Goes through POST /themes, so it works whichever store the application runs on.
+    public static Long createTheme(TestRestTemplate restTemplate) {
+        return idOf(restTemplate.postForLocation("/themes",
+                Map.of("name", uniqueThemeName(), "desc", THEME_DESC, "price", THEME_PRICE)));
+    }
+
+    public static Long idOf(URI location) {
+        String path = location.getPath();
+        return Long.valueOf(path.substring(path.lastIndexOf('/') + 1));
+    }
+}